@@ -3,6 +3,8 @@ package server.api.kiwes.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.security.principal.AuthenticatedMember;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
@@ -40,6 +42,7 @@ public class SwaggerConfig {
                 .paths(PathSelectors.any())
                 .build()
                 .useDefaultResponseMessages(false)
+                .ignoredParameterTypes(Member.class, AuthenticatedMember.class) // @CurrentMember 로 주입
                 .securityContexts(List.of(securityContext()))
                 .securitySchemes(List.of(securityScheme()));
 
@@ -1,21 +1,32 @@
 package server.api.kiwes.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import server.api.kiwes.global.converter.SocialLoginTypeConverter;
+import server.api.kiwes.global.security.principal.CurrentMemberArgumentResolver;
+
+import java.util.List;
 
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+    private final CurrentMemberArgumentResolver currentMemberArgumentResolver;
 
     @Override
     public void addFormatters(FormatterRegistry registry) {
         registry.addConverter(new SocialLoginTypeConverter());
     }
     @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentMemberArgumentResolver);
+    }
+    @Override
     public void addCorsMappings(CorsRegistry registry) {
 
         registry.addMapping("/**")      //패턴
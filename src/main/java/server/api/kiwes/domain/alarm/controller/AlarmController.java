@@ -3,15 +3,16 @@ package server.api.kiwes.domain.alarm.controller;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.annotation.*;
 import server.api.kiwes.domain.alarm.constant.AlarmResponseType;
 import server.api.kiwes.domain.alarm.service.AlarmService;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club.service.ClubService;
 import server.api.kiwes.domain.member.entity.Member;
-import server.api.kiwes.domain.member.service.MemberService;
 import server.api.kiwes.domain.search_count.entity.SearchCount;
+import server.api.kiwes.global.pagination.PageCursor;
+import server.api.kiwes.global.security.principal.AuthenticatedMember;
+import server.api.kiwes.global.security.principal.CurrentMember;
 import server.api.kiwes.response.ApiResponse;
 
 import java.time.LocalDate;
@@ -23,7 +24,6 @@ import java.time.temporal.ChronoUnit;
 @RequestMapping("/api/v1/alarm")
 public class AlarmController {
     private final AlarmService alarmService;
-    private final MemberService memberService;
 
     @ApiOperation(value = "알림 가져오기", notes =
             "예시 출력 데이터\n" +
@@ -35,26 +35,30 @@ public class AlarmController {
             " \"club_id\": 0 }"
     )
     @GetMapping("/")
-    public ApiResponse<Object> alarmList(@RequestParam String lang){
-        Member member = memberService.getLoggedInMember();
+    public ApiResponse<Object> alarmList(@RequestParam String lang, @CurrentMember Member member){
         return ApiResponse.of(AlarmResponseType.ALARMS, alarmService.getAlarmAll(member,lang));
     }
 
-
-    /**
-     * 매일 0시 3일 지난 알람 삭제
-     */
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 0시
-    public void removeOldAlarm(){
-        alarmService.deleteOldAlarm();
+    @ApiOperation(value = "알림함 페이지 조회", notes = "최신순 7개씩. 첫 페이지는 next 없이, 다음 페이지는 응답의 nextCursor 를 next 로 넘긴다." +
+            "\n예시 출력 데이터\n" +
+            "\"status\": 20401,\n" +
+            "\"message\": \"성공\",\n" +
+            "\"data\": {\n" +
+            " \"contents\": [ (알림 가져오기와 동일) ],\n" +
+            " \"nextCursor\": \"String\",\n" +
+            " \"hasNext\": true }"
+    )
+    @GetMapping("/inbox")
+    public ApiResponse<Object> alarmInbox(@RequestParam String lang, @RequestParam(required = false) String next,
+                                        @CurrentMember Member member){
+        return ApiResponse.of(AlarmResponseType.ALARMS, alarmService.getAlarmPage(member, lang, PageCursor.decode(next)));
     }
 
 
     @ApiOperation(value = "알림 로깅", notes ="")
     @GetMapping("/log")
-    public ApiResponse<Object> getloging(){
-        Member member = memberService.getLoggedInMember();
-        if(alarmService.isAnyCheckedAlarm(member)){
+    public ApiResponse<Object> getloging(@CurrentMember AuthenticatedMember member){
+        if(alarmService.isAnyCheckedAlarm(member.getId())){
             return ApiResponse.of(AlarmResponseType.UNCHECKED);
         }else{
             return ApiResponse.of(AlarmResponseType.CHECKED);
@@ -0,0 +1,19 @@
+package server.api.kiwes.domain.alarm.dto;
+
+import server.api.kiwes.domain.alarm.constant.AlarmContent;
+import server.api.kiwes.domain.alarm.constant.AlarmType;
+
+import java.time.LocalDateTime;
+
+public interface AlarmInboxInterface {
+    Long getAlarm_id();
+    AlarmType getType();
+    AlarmContent getContent();
+    String getName();
+    Long getClub_id();
+    Long getMember_id();
+    Long getSender_id();
+    String getImage_url();
+    Long getNotice_id();
+    LocalDateTime getCreated_date();
+}
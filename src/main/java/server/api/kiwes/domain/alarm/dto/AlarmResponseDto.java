@@ -1,18 +1,10 @@
 package server.api.kiwes.domain.alarm.dto;
 
 import lombok.*;
-import org.springframework.security.core.parameters.P;
 import server.api.kiwes.domain.alarm.constant.AlarmType;
-import server.api.kiwes.domain.alarm.entity.Alarm;
-import server.api.kiwes.domain.club.entity.Club;
-import server.api.kiwes.domain.heart.constant.HeartStatus;
-import server.api.kiwes.domain.member.entity.Member;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor
@@ -31,10 +23,11 @@ public class AlarmResponseDto {
     private String imageUrl;
     private Long noticeId;
 
-    public static AlarmResponseDto of(Alarm alarm,String lang){
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime createdDate = LocalDateTime.parse(alarm.getCreatedDate().format(formatter), formatter);
+    /**
+     * 알림 한 건 응답. 경과 시간은 한 번의 요청 안에서 같은 now 를 기준으로 계산한다.
+     */
+    public static AlarmResponseDto of(AlarmInboxInterface alarm, String lang, LocalDateTime now){
+        LocalDateTime createdDate = alarm.getCreated_date();
 
         String hours = String.valueOf(ChronoUnit.HOURS.between(createdDate, now));
         long days = ChronoUnit.DAYS.between(createdDate, now);
@@ -56,13 +49,13 @@ public class AlarmResponseDto {
         AlarmResponseDto alarmResponseDto=AlarmResponseDto.builder()
                 .content(alarm.getContent().getContent(lang))
                 .type(alarm.getType())
-                .clubId(alarm.getClub().getId())
+                .clubId(alarm.getClub_id())
                 .createAfterHour(hours)
                 .createAfterDay(createAfterDay)
-                .memberId(alarm.getMember().getId())
-                .senderId(alarm.getSender().getId())
-                .noticeId(alarm.getNoticeId())
-                .imageUrl(alarm.getImageUrl())
+                .memberId(alarm.getMember_id())
+                .senderId(alarm.getSender_id())
+                .noticeId(alarm.getNotice_id())
+                .imageUrl(alarm.getImage_url())
                 .build();
         if(alarm.getName() != null){
             alarmResponseDto.setContent(alarm.getName()+alarmResponseDto.content);
@@ -12,6 +12,11 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_alarm_member_alarm", columnList = "member_id, alarm_id"),
+        @Index(name = "idx_alarm_type_alarm", columnList = "type, alarm_id"),
+        @Index(name = "idx_alarm_created_date", columnList = "created_date")   // 보관 정책 삭제
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -0,0 +1,40 @@
+package server.api.kiwes.domain.alarm.entity;
+
+import lombok.*;
+import server.api.kiwes.domain.BaseTimeEntity;
+import server.api.kiwes.domain.alarm.constant.AlarmContent;
+import server.api.kiwes.domain.alarm.constant.AlarmType;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 저장에 실패한 알림. 원인과 함께 남겨두고 수동으로 재처리한다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AlarmDeadLetter extends BaseTimeEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ALARM_DEAD_LETTER_ID")
+    private Long id;
+
+    private Long memberId;
+    private Long senderId;
+    private Long clubId;
+
+    @Enumerated(EnumType.STRING)
+    private AlarmType type;
+
+    @Enumerated(EnumType.STRING)
+    private AlarmContent content;
+
+    private String name;
+    private String imageUrl;
+    private LocalDateTime alarmCreatedDate;   // 원래 알림 발생 시각
+
+    @Column(length = 1000)
+    private String reason;
+}
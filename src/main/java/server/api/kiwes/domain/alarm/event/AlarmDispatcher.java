@@ -0,0 +1,195 @@
+package server.api.kiwes.domain.alarm.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import server.api.kiwes.domain.alarm.entity.AlarmDeadLetter;
+import server.api.kiwes.domain.alarm.repository.AlarmDeadLetterRepository;
+import server.api.kiwes.domain.alarm.service.AlarmBadgeService;
+import server.api.kiwes.domain.alarm.service.BroadcastAlarmCache;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 발송 파이프라인.
+ * 커밋된 AlarmEvent 를 크기가 정해진 큐에 넣고, 워커 스레드가 모아서 JDBC batch insert 한다.
+ * 큐가 가득 차면 잠시 기다렸다가 그래도 자리가 없으면 호출한 스레드에서 직접 저장한다. (back-pressure)
+ * batch 는 한 트랜잭션으로 저장해서 중간에 실패하면 전부 롤백한 뒤 한 건씩 다시 시도한다.
+ * 저장에 실패한 알림은 alarm_dead_letter 에 남긴다.
+ */
+@Slf4j
+@Component
+public class AlarmDispatcher {
+    private static final String INSERT_SQL =
+            "insert into alarm (member_id, sender_id, club_id, type, content, name, image_url, notice_id, created_date, modified_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AlarmDeadLetterRepository alarmDeadLetterRepository;
+    private final AlarmBadgeService alarmBadgeService;
+    private final BroadcastAlarmCache broadcastAlarmCache;
+    private final int workers;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+
+    private final BlockingQueue<AlarmEvent> queue;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public AlarmDispatcher(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           AlarmDeadLetterRepository alarmDeadLetterRepository,
+                           AlarmBadgeService alarmBadgeService,
+                           BroadcastAlarmCache broadcastAlarmCache,
+                           @Value("${kiwes.alarm.dispatch.workers:2}") int workers,
+                           @Value("${kiwes.alarm.dispatch.queue-capacity:10000}") int queueCapacity,
+                           @Value("${kiwes.alarm.dispatch.batch-size:100}") int batchSize,
+                           @Value("${kiwes.alarm.dispatch.offer-timeout-ms:200}") long offerTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 큐가 가득 차 커밋 직후(afterCommit) 호출 스레드에서 저장하는 경우에도 새 트랜잭션으로 묶는다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.alarmDeadLetterRepository = alarmDeadLetterRepository;
+        this.alarmBadgeService = alarmBadgeService;
+        this.broadcastAlarmCache = broadcastAlarmCache;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        AtomicInteger index = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "alarm-dispatcher-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::work);
+        }
+    }
+
+    /**
+     * 발행한 트랜잭션이 커밋된 뒤에만 큐에 넣는다. 트랜잭션 밖에서 발행하면 바로 넣는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void enqueue(AlarmEvent event) {
+        try {
+            if (running && queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("alarm queue is full, insert on caller thread");
+        insert(List.of(event));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        List<AlarmEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) insert(remaining);
+    }
+
+    private void work() {
+        List<AlarmEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                insert(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) insert(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.error("alarm dispatch failed - {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * batch insert 하고, 실패하면 한 건씩 다시 시도해서 그래도 실패한 알림만 dead letter 로 보낸다.
+     */
+    private void insert(List<AlarmEvent> events) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, toRows(events)));
+            events.forEach(this::afterInsert);
+        } catch (RuntimeException batchFailure) {
+            for (AlarmEvent event : events) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, toRow(event)));
+                    afterInsert(event);
+                } catch (RuntimeException e) {
+                    deadLetter(event, e);
+                }
+            }
+        }
+    }
+
+    private void afterInsert(AlarmEvent event) {
+        try {
+            if (event.isBroadcast()) broadcastAlarmCache.invalidate();
+            else alarmBadgeService.increase(event.getMemberId());
+        } catch (RuntimeException e) {
+            log.warn("alarm badge update failed - {}", e.getMessage());
+        }
+    }
+
+    private void deadLetter(AlarmEvent event, RuntimeException cause) {
+        log.error("alarm insert failed, move to dead letter - member {}, {}", event.getMemberId(), cause.getMessage());
+        try {
+            alarmDeadLetterRepository.save(AlarmDeadLetter.builder()
+                    .memberId(event.getMemberId())
+                    .senderId(event.getSenderId())
+                    .clubId(event.getClubId())
+                    .type(event.getType())
+                    .content(event.getContent())
+                    .name(event.getName())
+                    .imageUrl(event.getImageUrl())
+                    .alarmCreatedDate(event.getCreatedDate())
+                    .reason(truncate(cause.getMessage()))
+                    .build());
+        } catch (RuntimeException e) {
+            log.error("alarm dead letter save failed - {}", e.getMessage());
+        }
+    }
+
+    private List<Object[]> toRows(List<AlarmEvent> events) {
+        List<Object[]> rows = new ArrayList<>(events.size());
+        events.forEach(event -> rows.add(toRow(event)));
+        return rows;
+    }
+
+    private Object[] toRow(AlarmEvent event) {
+        Timestamp createdDate = Timestamp.valueOf(event.getCreatedDate());
+        return new Object[]{event.getMemberId(), event.getSenderId(), event.getClubId(),
+                event.getType().name(), event.getContent().name(), event.getName(), event.getImageUrl(),
+                event.getNoticeId(), createdDate, createdDate};
+    }
+
+    private String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,31 @@
+package server.api.kiwes.domain.alarm.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import server.api.kiwes.domain.alarm.constant.AlarmContent;
+import server.api.kiwes.domain.alarm.constant.AlarmType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 요청. 커밋 후 AlarmDispatcher 큐에 들어가 일괄 저장된다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AlarmEvent {
+    private final Long memberId;
+    private final Long senderId;
+    private final Long clubId;
+    private final AlarmType type;
+    private final AlarmContent content;
+    private final String name;
+    private final String imageUrl;
+    private final long noticeId;        // 공지/이벤트 알림이 가리키는 글. 그 외는 0
+    private final LocalDateTime createdDate;
+
+    public boolean isBroadcast() {
+        return type == AlarmType.NOTICE || type == AlarmType.EVENT;
+    }
+}
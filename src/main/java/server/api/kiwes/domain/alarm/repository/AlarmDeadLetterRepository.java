@@ -0,0 +1,7 @@
+package server.api.kiwes.domain.alarm.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import server.api.kiwes.domain.alarm.entity.AlarmDeadLetter;
+
+public interface AlarmDeadLetterRepository extends JpaRepository<AlarmDeadLetter, Long> {
+}
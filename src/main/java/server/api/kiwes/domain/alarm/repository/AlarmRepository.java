@@ -3,6 +3,7 @@ package server.api.kiwes.domain.alarm.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import server.api.kiwes.domain.alarm.dto.AlarmInboxInterface;
 import server.api.kiwes.domain.alarm.dto.AlarmResponseDto;
 import server.api.kiwes.domain.alarm.entity.Alarm;
 import server.api.kiwes.domain.club.constant.ClubStatus;
@@ -15,9 +16,21 @@ import java.util.List;
 import java.util.Optional;
 
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
-    @Query (
-            value = "select * from alarm where alarm.member_id = :memberId or ( type = 'NOTICE' or type = 'EVENT' ) order by alarm.alarm_id desc",
-            nativeQuery = true
-    )
-    List<Alarm> findByMemberIdAndType(@Param("memberId") Long memberId);
+    @Query(value = "select a.alarm_id, a.type, a.content, a.name, a.club_id, a.member_id, a.sender_id, a.image_url, " +
+            "a.notice_id, a.created_date from alarm a " +
+            "where a.member_id = :memberId and a.alarm_id < :lastId and a.type not in ('NOTICE', 'EVENT') " +
+            "order by a.alarm_id desc limit :size",
+            nativeQuery = true)
+    List<AlarmInboxInterface> findPersonalByKeyset(@Param("memberId") Long memberId,
+                                                @Param("lastId") Long lastId, @Param("size") int size);
+
+    @Query(value = "select a.alarm_id, a.type, a.content, a.name, a.club_id, a.member_id, a.sender_id, a.image_url, " +
+            "a.notice_id, a.created_date from alarm a " +
+            "where a.type in ('NOTICE', 'EVENT') order by a.alarm_id desc limit :size",
+            nativeQuery = true)
+    List<AlarmInboxInterface> findBroadcasts(@Param("size") int size);
+
+    @Query(value = "select count(*) from alarm where member_id = :memberId and created_date > :checked " +
+            "and type not in ('NOTICE', 'EVENT')", nativeQuery = true)
+    long countPersonalAlarmsAfter(@Param("memberId") Long memberId, @Param("checked") LocalDateTime checked);
 }
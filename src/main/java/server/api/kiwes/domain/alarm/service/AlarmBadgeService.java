@@ -0,0 +1,122 @@
+package server.api.kiwes.domain.alarm.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import server.api.kiwes.domain.alarm.repository.AlarmRepository;
+import server.api.kiwes.domain.member.repository.MemberRepository;
+import server.api.kiwes.global.util.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 뱃지(미확인 알림 여부) 판단용 카운터.
+ * 개인 알림은 Redis 의 회원별 미확인 카운터로, 공지/이벤트 알림은 공지 캐시의 가장 최근 등록 시각과
+ * Redis 에 같이 둔 확인 시각을 비교해서 판단하므로, 폴링마다 member/alarm 테이블을 읽지 않는다.
+ * Redis 를 쓸 수 없으면 DB 로 계산한다.
+ */
+@Slf4j
+@Service
+public class AlarmBadgeService {
+    private static final String UNREAD_KEY_PREFIX = "kiwes:alarm:unread:";
+    private static final String CHECKED_KEY_PREFIX = "kiwes:alarm:checked:";
+    private static final Duration UNREAD_TTL = Duration.ofDays(11);   // 알림 보관 기간과 동일
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AlarmRepository alarmRepository;
+    private final MemberRepository memberRepository;
+    private final BroadcastAlarmCache broadcastAlarmCache;
+
+    public AlarmBadgeService(StringRedisTemplate stringRedisTemplate, AlarmRepository alarmRepository,
+                             MemberRepository memberRepository, BroadcastAlarmCache broadcastAlarmCache) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.alarmRepository = alarmRepository;
+        this.memberRepository = memberRepository;
+        this.broadcastAlarmCache = broadcastAlarmCache;
+    }
+
+    /**
+     * 개인 알림 등록. 트랜잭션 안이라면 커밋된 뒤에 카운터를 올린다.
+     */
+    public void increase(Long memberId) {
+        runAfterCommit(() -> {
+            String key = UNREAD_KEY_PREFIX + memberId;
+            stringRedisTemplate.opsForValue().increment(key);
+            stringRedisTemplate.expire(key, UNREAD_TTL);
+        });
+    }
+
+    /**
+     * 알림 목록을 읽었을 때 카운터 초기화와 확인 시각 저장. 트랜잭션 안이라면 커밋된 뒤에 반영한다.
+     * 카운터는 지우지 않고 0 으로 둬서 다음 조회 때 DB 를 보지 않게 한다.
+     */
+    public void reset(Long memberId, LocalDateTime checked) {
+        runAfterCommit(() -> stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                redis.opsForValue().set(UNREAD_KEY_PREFIX + memberId, "0", UNREAD_TTL);
+                redis.opsForValue().set(CHECKED_KEY_PREFIX + memberId, checked.toString(), UNREAD_TTL);
+                return null;
+            }
+        }));
+    }
+
+    /**
+     * 미확인 알림이 있으면 true. 확인 시각과 카운터를 한 번에 읽는다.
+     * 둘 중 하나라도 없는 회원(배포 이전 가입자, TTL 만료)만 한번 DB 에서 계산해 채우고,
+     * Redis 장애 시에는 DB 로 계산한다.
+     */
+    public boolean hasUnread(Long memberId) {
+        List<String> values;
+        try {
+            values = stringRedisTemplate.opsForValue().multiGet(List.of(CHECKED_KEY_PREFIX + memberId, UNREAD_KEY_PREFIX + memberId));
+        } catch (RuntimeException e) {
+            log.warn("alarm badge read failed, count from db - {}", e.getMessage());
+            return hasUnreadFromDb(memberId, false);
+        }
+        if (values == null || values.get(0) == null || values.get(1) == null) return hasUnreadFromDb(memberId, true);
+
+        return hasNewBroadcast(LocalDateTime.parse(values.get(0))) || Long.parseLong(values.get(1)) > 0;
+    }
+
+    private boolean hasUnreadFromDb(Long memberId, boolean fill) {
+        LocalDateTime checked = memberRepository.findCheckedById(memberId);
+        long count = alarmRepository.countPersonalAlarmsAfter(memberId, checked);
+        if (fill) {
+            try {
+                stringRedisTemplate.opsForValue().setIfAbsent(UNREAD_KEY_PREFIX + memberId, String.valueOf(count), UNREAD_TTL);
+                if (checked != null) {
+                    stringRedisTemplate.opsForValue().setIfAbsent(CHECKED_KEY_PREFIX + memberId, checked.toString(), UNREAD_TTL);
+                }
+            } catch (RuntimeException e) {
+                log.warn("alarm badge fill failed - {}", e.getMessage());
+            }
+        }
+        return hasNewBroadcast(checked) || count > 0;
+    }
+
+    private boolean hasNewBroadcast(LocalDateTime checked) {
+        LocalDateTime broadcast = broadcastAlarmCache.getLatestCreatedDate();
+        return broadcast != null && (checked == null || broadcast.isAfter(checked));
+    }
+
+    /**
+     * 카운터 갱신 실패는 알림 등록을 실패시키지 않는다. (다음 조회 때 DB 로 다시 센다)
+     */
+    private void runAfterCommit(Runnable action) {
+        AfterCommit.run(() -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("alarm badge update failed - {}", e.getMessage());
+            }
+        });
+    }
+}
@@ -1,20 +1,26 @@
 package server.api.kiwes.domain.alarm.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import server.api.kiwes.domain.alarm.constant.AlarmContent;
 import server.api.kiwes.domain.alarm.constant.AlarmType;
+import server.api.kiwes.domain.alarm.dto.AlarmInboxInterface;
 import server.api.kiwes.domain.alarm.dto.AlarmResponseDto;
-import server.api.kiwes.domain.alarm.entity.Alarm;
+import server.api.kiwes.domain.alarm.event.AlarmEvent;
 import server.api.kiwes.domain.alarm.repository.AlarmRepository;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.repository.MemberRepository;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
+import server.api.kiwes.global.dto.CursorPageResponseDto;
+import server.api.kiwes.global.pagination.PageCursor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -22,43 +28,117 @@ import java.util.List;
 public class AlarmService {
     private final AlarmRepository alarmRepository;
     private final MemberRepository memberRepository;
+    private final AlarmBadgeService alarmBadgeService;
+    private final BroadcastAlarmCache broadcastAlarmCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
+    /**
+     * 알림 전체 조회 (구버전 앱 호환용). 확인 시각은 한번만 갱신한다.
+     */
     public List<AlarmResponseDto> getAlarmAll(Member member,String lang) {
-        List<AlarmResponseDto> response = new ArrayList<>();
-        List<Alarm> alarms = alarmRepository.findByMemberIdAndType(member.getId());
+        LocalDateTime now = LocalDateTime.now();
+        List<AlarmResponseDto> response = findInbox(member, Long.MAX_VALUE, Integer.MAX_VALUE)
+                .stream()
+                .map(alarm -> AlarmResponseDto.of(alarm, lang, now))
+                .collect(Collectors.toList());
+        markChecked(member, now);
+        return response;
+    }
 
-        for(Alarm alarm : alarms){
-            response.add(AlarmResponseDto.of(alarm,lang));
-            member.setChecked(LocalDateTime.now());
-            memberRepository.save(member);
-        }
+    /**
+     * 알림함 페이지 조회 (alarm_id 내림차순 keyset). 확인 시각은 첫 페이지를 볼 때만 갱신한다.
+     */
+    public CursorPageResponseDto<AlarmResponseDto> getAlarmPage(Member member, String lang, PageCursor cursor) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AlarmInboxInterface> fetched = findInbox(member, cursor.getUpperBound(), cursor.getFetchSize());
+        CursorPageResponseDto<AlarmResponseDto> response =
+                CursorPageResponseDto.of(fetched, alarm -> PageCursor.of(alarm.getAlarm_id()))
+                        .map(alarm -> AlarmResponseDto.of(alarm, lang, now));
+        if (cursor.isFirst()) markChecked(member, now);
         return response;
     }
 
+    /**
+     * 알림 발송 요청. 현재 트랜잭션이 커밋된 뒤 AlarmDispatcher 가 모아서 저장한다.
+     */
     public void postAlarm(Member member,Member sender, Club club, AlarmType type, String name, AlarmContent content) {
-        Alarm alarm = Alarm.builder().club(club).member(member).sender(sender).name(name)
-                .type(type).content(content)
-                .imageUrl("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"
-                        +member.getProfileImg()+".jpg").build();
-        alarmRepository.save(alarm);
+        applicationEventPublisher.publishEvent(AlarmEvent.builder()
+                .memberId(member.getId())
+                .senderId(sender == null ? null : sender.getId())
+                .clubId(club == null ? null : club.getId())
+                .type(type)
+                .content(content)
+                .name(name)
+                .imageUrl(MediaUrlBuilder.profileImage(member.getProfileImg()))
+                .createdDate(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 개인 알림((member_id, alarm_id) 인덱스 범위 조회)과 캐시된 공지를 alarm_id 내림차순으로 합친다.
+     */
+    private List<AlarmInboxInterface> findInbox(Member member, Long lastId, int size) {
+        return mergeByIdDesc(List.of(
+                alarmRepository.findPersonalByKeyset(member.getId(), lastId, size),
+                broadcastAlarmCache.findBefore(lastId, size)), size);
     }
-    public void deleteOldAlarm() {
-        List<Alarm> allAlarms = alarmRepository.findAll();
-        for ( Alarm alarm : allAlarms ){
-            if ( alarm.getCreatedDate().plusDays(11).isBefore(LocalDateTime.now())){
-                alarmRepository.delete(alarm);
-            }
+
+    /**
+     * alarm_id 내림차순으로 정렬된 목록들을 k-way merge 해서 앞에서부터 size 개
+     */
+    private List<AlarmInboxInterface> mergeByIdDesc(List<List<AlarmInboxInterface>> sources, int size) {
+        PriorityQueue<PeekingIterator> heads = new PriorityQueue<>(
+                Comparator.comparing((PeekingIterator head) -> head.peek().getAlarm_id()).reversed());
+        for (List<AlarmInboxInterface> source : sources) {
+            if (!source.isEmpty()) heads.add(new PeekingIterator(source.iterator()));
+        }
+
+        List<AlarmInboxInterface> merged = new ArrayList<>();
+        while (!heads.isEmpty() && merged.size() < size) {
+            PeekingIterator head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) heads.add(head);
         }
+        return merged;
+    }
+
+    /**
+     * 벌크 UPDATE 한번으로 갱신한다. 영속 상태의 member 는 건드리지 않아 dirty checking 으로 다시 UPDATE 되지 않는다.
+     */
+    private void markChecked(Member member, LocalDateTime now) {
+        memberRepository.updateChecked(member.getId(), now);
+        alarmBadgeService.reset(member.getId(), now);
     }
 
-    public boolean isAnyCheckedAlarm(Member member) {
-        List<Alarm> alarms = alarmRepository.findByMemberIdAndType((member.getId()));
-        if(alarms.isEmpty()) return false;
-        for(Alarm alarm : alarms){
-            if(alarm.getCreatedDate().isBefore(member.getChecked())){
-                return false;
-            }
+    /**
+     * 마지막으로 알림을 확인한 이후 새 알림이 있는지. 가장 많이 폴링되는 API 라 트랜잭션(커넥션) 없이 Redis 만 본다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isAnyCheckedAlarm(Long memberId) {
+        return alarmBadgeService.hasUnread(memberId);
+    }
+
+    private static class PeekingIterator {
+        private final Iterator<AlarmInboxInterface> iterator;
+        private AlarmInboxInterface head;
+
+        private PeekingIterator(Iterator<AlarmInboxInterface> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+
+        private AlarmInboxInterface peek() {
+            return head;
+        }
+
+        private boolean hasNext() {
+            return head != null;
+        }
+
+        private AlarmInboxInterface next() {
+            AlarmInboxInterface current = head;
+            head = iterator.hasNext() ? iterator.next() : null;
+            return current;
         }
-        return true;
     }
 }
@@ -0,0 +1,70 @@
+package server.api.kiwes.domain.alarm.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.domain.alarm.dto.AlarmInboxInterface;
+import server.api.kiwes.domain.alarm.repository.AlarmRepository;
+import server.api.kiwes.global.util.AfterCommit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 모든 회원에게 보이는 공지/이벤트 알림 캐시 (fan-out-on-read).
+ * 공지는 수가 적고 모두가 같이 보므로 메모리에 alarm_id 내림차순으로 들고 있다가, 알림함 조회 시 개인 알림과 합친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BroadcastAlarmCache {
+    private static final int MAX_SIZE = 500;
+
+    private final AlarmRepository alarmRepository;
+
+    private volatile List<AlarmInboxInterface> broadcasts = List.of();
+
+    /**
+     * alarm_id 가 lastId 보다 작은 공지를 최신순으로 최대 size 개
+     */
+    public List<AlarmInboxInterface> findBefore(Long lastId, int size) {
+        List<AlarmInboxInterface> result = new ArrayList<>();
+        for (AlarmInboxInterface broadcast : broadcasts) {
+            if (result.size() >= size) break;
+            if (broadcast.getAlarm_id() < lastId) result.add(broadcast);
+        }
+        return result;
+    }
+
+    /**
+     * 가장 최근 공지 등록 시각. 없으면 null
+     */
+    public LocalDateTime getLatestCreatedDate() {
+        List<AlarmInboxInterface> current = broadcasts;
+        return current.isEmpty() ? null : current.get(0).getCreated_date();
+    }
+
+    /**
+     * 앱에서 공지를 등록한 경우. 커밋된 뒤에 캐시를 다시 읽는다.
+     */
+    public void invalidate() {
+        AfterCommit.run(this::refresh);
+    }
+
+    /**
+     * 공지는 관리자가 DB 에 직접 넣기도 하므로 주기적으로 다시 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${kiwes.alarm.broadcast-refresh-delay:60000}")
+    public void refresh() {
+        try {
+            broadcasts = List.copyOf(alarmRepository.findBroadcasts(MAX_SIZE));
+        } catch (RuntimeException e) {
+            log.warn("broadcast alarm cache refresh failed - {}", e.getMessage());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import server.api.kiwes.domain.club_member.entity.ClubMember;
 import server.api.kiwes.domain.club_member.service.ClubMemberService;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.service.MemberService;
+import server.api.kiwes.global.pagination.PageCursor;
 import server.api.kiwes.response.ApiResponse;
 import server.api.kiwes.response.BizException;
 
@@ -77,8 +78,13 @@ public class ClubApprovalController {
             @io.swagger.annotations.ApiResponse(code = 20109, message = "승인 관련 리스트 리턴 성공"),
     })
     @GetMapping("/my-own-club")
-    public ApiResponse<List<ClubApprovalRequestSimpleDto>> getRequestsApproval(@RequestParam int cursor){
+    public ApiResponse<Object> getRequestsApproval(@RequestParam(defaultValue = "0") int cursor,
+                                                   @RequestParam(required = false) String next){
         Member member= memberService.getLoggedInMember();
+        if(next != null){
+            return ApiResponse.of(ClubResponseType.APPROVAL_LIST_GET_SUCCEED,
+                    clubApprovalService.getRequestsResponse(member, PageCursor.decode(next)));
+        }
         List<ClubApprovalRequestSimpleDto> response = clubApprovalService.getRequestsResponse(member,cursor);
 
         return ApiResponse.of(ClubResponseType.APPROVAL_LIST_GET_SUCCEED, response);
@@ -124,13 +130,19 @@ public class ClubApprovalController {
             @io.swagger.annotations.ApiResponse(code = 20115, message = "내가 호스트인 모임 리스트 리턴 성공"),
     })
     @GetMapping("/host-club-detail/{memberId}")
-    public ApiResponse<List<ClubApprovalWaitingSimpleDto>> getAllMyOwnClubDetail(@PathVariable Long memberId, @RequestParam int cursor){
+    public ApiResponse<Object> getAllMyOwnClubDetail(@PathVariable Long memberId,
+                                                     @RequestParam(defaultValue = "0") int cursor,
+                                                     @RequestParam(required = false) String next){
         Member member;
         if(memberId == 0){
             member = memberService.getLoggedInMember();
         }else{
             member = memberService.findById(memberId);
         }
+        if(next != null){
+            return ApiResponse.of(ClubResponseType.Club_LIST_GET_SUCCEED,
+                    clubApprovalService.getAllMyOwnClubDetail(member, PageCursor.decode(next)));
+        }
         List<ClubApprovalWaitingSimpleDto> response = clubApprovalService.getAllMyOwnClubDetail(member,cursor);
 
         return ApiResponse.of(ClubResponseType.Club_LIST_GET_SUCCEED, response);
@@ -153,8 +165,13 @@ public class ClubApprovalController {
             @io.swagger.annotations.ApiResponse(code = 20109, message = "승인 관련 리스트 리턴 성공"),
     })
     @GetMapping("/my-waitings")
-    public ApiResponse<List<ClubApprovalWaitingSimpleDto>> getWaitingApproval(@RequestParam int cursor){
+    public ApiResponse<Object> getWaitingApproval(@RequestParam(defaultValue = "0") int cursor,
+                                                  @RequestParam(required = false) String next){
         Member member = memberService.getLoggedInMember();
+        if(next != null){
+            return ApiResponse.of(ClubResponseType.APPROVAL_LIST_GET_SUCCEED,
+                    clubApprovalService.getWaitingsResponse(member, PageCursor.decode(next)));
+        }
         List<ClubApprovalWaitingSimpleDto> response = clubApprovalService.getWaitingsResponse(member, cursor);
 
         return ApiResponse.of(ClubResponseType.APPROVAL_LIST_GET_SUCCEED, response);
@@ -18,7 +18,9 @@ import server.api.kiwes.domain.club_member.service.ClubMemberService;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.service.MemberService;
 import server.api.kiwes.domain.qna.constant.QnaResponseType;
+import server.api.kiwes.global.aws.ImageType;
 import server.api.kiwes.global.aws.PreSignedUrlService;
+import server.api.kiwes.global.pagination.PageCursor;
 import server.api.kiwes.response.ApiResponse;
 import server.api.kiwes.response.BizException;
 
@@ -98,10 +100,10 @@ public class ClubController {
     public ApiResponse<String> getUploadClubThumbnailImagePresignedUrl(@RequestParam Long clubId){
         Club club = clubService.findById(clubId);
         if(!club.getThumbnailUrl().equals("club_2")){
-            preSignedUrlService.DeleteImage("clubThumbnail/"+club.getThumbnailUrl());
+            preSignedUrlService.DeleteImage(ImageType.CLUB_THUMBNAIL, club.getThumbnailUrl());
         }
         clubService.setClubThumbnailImageUrl(club);
-        String url = preSignedUrlService.getPreSignedUrl("clubThumbnail/", club.getThumbnailUrl());
+        String url = preSignedUrlService.getPreSignedUrl(ImageType.CLUB_THUMBNAIL, club.getThumbnailUrl());
         return ApiResponse.of(ClubResponseType.CLUB_THUMBNAIL_IMG_PRESIGNED_URL, url);
     }
 
@@ -126,7 +128,7 @@ public class ClubController {
         clubService.deleteClub(club);
 
         if(!club.getThumbnailUrl().equals("club_2")){
-            preSignedUrlService.DeleteImage("clubThumbnail/"+club.getThumbnailUrl());
+            preSignedUrlService.DeleteImage(ImageType.CLUB_THUMBNAIL, club.getThumbnailUrl());
         }
         return ApiResponse.of(ClubResponseType.DELETE_SUCCESS);
     }
@@ -293,10 +295,18 @@ public class ClubController {
             "MOVIE\n" +
             "CRAFT\n" +
             "VOLUNTEER\n" +
-            "OTHER\n"
+            "OTHER\n" +
+            "\n\nnext 파라미터를 보내면 keyset 페이지네이션으로 조회 (첫 페이지는 빈 문자열)\n" +
+            "응답의 nextCursor 를 다음 요청의 next 로 그대로 전달. 이 경우 cursor 는 무시됨"
             )
     @PostMapping("/category")
-    public ApiResponse<Object> sortByCategories(@RequestBody ClubSortRequestDto clubSortRequestDto,@RequestParam int cursor) {
+    public ApiResponse<Object> sortByCategories(@RequestBody ClubSortRequestDto clubSortRequestDto,
+                                                @RequestParam(defaultValue = "0") int cursor,
+                                                @RequestParam(required = false) String next) {
+        if(next != null){
+            return ApiResponse.of(ClubResponseType.CLUB_SORT_BY_CATEGORY_SUCCESS,
+                    clubSortService.getClubByCategory(clubSortRequestDto.getSortedBy(), PageCursor.decode(next)));
+        }
         return ApiResponse.of(ClubResponseType.CLUB_SORT_BY_CATEGORY_SUCCESS,
                 clubSortService.getClubByCategory(clubSortRequestDto.getSortedBy(),cursor*7));
     }
@@ -313,9 +323,17 @@ public class ClubController {
             "KO\n" +
             "OTHER\n" +
             "RU\n" +
-            "VN\n")
+            "VN\n" +
+            "\n\nnext 파라미터를 보내면 keyset 페이지네이션으로 조회 (첫 페이지는 빈 문자열)\n" +
+            "응답의 nextCursor 를 다음 요청의 next 로 그대로 전달. 이 경우 cursor 는 무시됨")
     @PostMapping("/language")
-    public ApiResponse<Object> sortByLanguages(@RequestBody ClubSortRequestDto clubSortRequestDto,@RequestParam int cursor) {
+    public ApiResponse<Object> sortByLanguages(@RequestBody ClubSortRequestDto clubSortRequestDto,
+                                               @RequestParam(defaultValue = "0") int cursor,
+                                               @RequestParam(required = false) String next) {
+        if(next != null){
+            return ApiResponse.of(ClubResponseType.CLUB_SORT_BY_LANGUAGE_SUCCESS,
+                    clubSortService.getClubByLanguages(clubSortRequestDto.getSortedBy(), PageCursor.decode(next)));
+        }
         return ApiResponse.of(ClubResponseType.CLUB_SORT_BY_LANGUAGE_SUCCESS,
                 clubSortService.getClubByLanguages(clubSortRequestDto.getSortedBy(),cursor*7));
     }
@@ -332,10 +350,17 @@ public class ClubController {
             "\"location\": \"String\",\n" +
             "\"languages\": \"List<String>\",\n" +
             " HeartStatus\": \"enum{YES, NO}\",\n "+
-            "]")
+            "]" +
+            "\n\nnext 파라미터를 보내면 keyset 페이지네이션으로 조회 (첫 페이지는 빈 문자열)\n" +
+            "응답의 nextCursor 를 다음 요청의 next 로 그대로 전달. 이 경우 cursor 는 무시됨")
     @GetMapping("/getClubs")
-    public ApiResponse<Object> getClubs(@RequestParam int cursor) {
+    public ApiResponse<Object> getClubs(@RequestParam(defaultValue = "0") int cursor,
+                                        @RequestParam(required = false) String next) {
         Member member = memberService.getLoggedInMember();
+        if(next != null){
+            return ApiResponse.of(ClubResponseType.CLUB_ALL_SUCCESS,
+                    clubSortService.getClubsByCursor(PageCursor.decode(next), member.getId()));
+        }
         return ApiResponse.of(ClubResponseType.CLUB_ALL_SUCCESS,
                 clubSortService.getClubsByCursor(cursor*7,member.getId()));
     }
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import server.api.kiwes.domain.club.constant.ClubResponseType;
 import server.api.kiwes.domain.club.dto.ClubArticleMemberInfoDto;
@@ -16,6 +17,7 @@ import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club.service.ClubDetailService;
 import server.api.kiwes.domain.club.service.ClubService;
 import server.api.kiwes.domain.club_member.service.ClubMemberService;
+import server.api.kiwes.domain.language.type.LanguageType;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.service.MemberService;
 import server.api.kiwes.response.ApiResponse;
@@ -29,15 +31,15 @@ public class ClubDetailController {
     private final MemberService memberService;
     private final ClubDetailService clubDetailService;
     
-    @ApiOperation(value = "모임 상세 정보 불러오기", notes = "모임 정보 페이지에서 활용\n, qna, review는 최대 2개까지")
+    @ApiOperation(value = "모임 상세 정보 불러오기", notes = "모임 정보 페이지에서 활용\n, qna, review는 최대 3개까지\n, language(EN, JP ...)를 주면 미리 번역된 제목/소개/qna/review로 응답")
     @ApiResponses({
             @io.swagger.annotations.ApiResponse(code = 20108, message = "모임 정보 불러오기 성공")
     })
     @GetMapping("/detail/{clubId}")
-    public ApiResponse<ClubArticleResponseDto> getClubDetail(@PathVariable Long clubId){
+    public ApiResponse<ClubArticleResponseDto> getClubDetail(@PathVariable Long clubId,
+                                                             @RequestParam(required = false) LanguageType language){
         Member member = memberService.getLoggedInMember();
-        Club club = clubService.findById(clubId);
-        ClubArticleResponseDto response = clubDetailService.getClubDetail(member, club);
+        ClubArticleResponseDto response = clubDetailService.getClubDetail(member, clubId, language);
 
         return ApiResponse.of(ClubResponseType.GET_INFO_SUCCESS, response);
     }
@@ -2,6 +2,7 @@ package server.api.kiwes.domain.club.dto;
 
 import lombok.*;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 import java.util.List;
 
@@ -22,8 +23,7 @@ public class ClubApprovalWaitingSimpleDto {
     public ClubApprovalWaitingSimpleDto(Long clubId, String title, String thumbnailImage, String date, String Location_keyword, HeartStatus isHeart) {
         this.clubId = clubId;
         this.title = title;
-        this.thumbnailImage = "https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                thumbnailImage;
+        this.thumbnailImage = MediaUrlBuilder.clubThumbnail(thumbnailImage);
         this.date = date;
         this.locationKeyword = Location_keyword;
         this.isHeart = isHeart;
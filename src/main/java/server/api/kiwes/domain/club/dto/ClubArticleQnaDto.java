@@ -3,6 +3,7 @@ package server.api.kiwes.domain.club.dto;
 import lombok.*;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.qna.entity.Qna;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 @Getter
 @Setter
@@ -22,11 +23,21 @@ public class ClubArticleQnaDto {
         return ClubArticleQnaDto.builder()
                 .qnaId(qna.getId())
                 .questionerId(questioner.getId())
-                .questionerImageUrl("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        questioner.getProfileImg()+".jpg")
+                .questionerImageUrl(MediaUrlBuilder.profileImage(questioner.getProfileImg()))
                 .questionerNickname(questioner.getNickname())
                 .questionContent(qna.getQuestionContent())
                 .questionDate(qna.getQDate())
                 .build();
     }
+
+    public static ClubArticleQnaDto of(ClubArticleQnaInterface qna){
+        return ClubArticleQnaDto.builder()
+                .qnaId(qna.getQna_id())
+                .questionerId(qna.getQuestioner_id())
+                .questionerImageUrl(MediaUrlBuilder.profileImage(qna.getProfile_img()))
+                .questionerNickname(qna.getNickname())
+                .questionContent(qna.getQuestion_content())
+                .questionDate(qna.getQ_date())
+                .build();
+    }
 }
@@ -0,0 +1,10 @@
+package server.api.kiwes.domain.club.dto;
+
+public interface ClubArticleQnaInterface {
+    Long getQna_id();
+    Long getQuestioner_id();
+    String getProfile_img();
+    String getNickname();
+    String getQuestion_content();
+    String getQ_date();
+}
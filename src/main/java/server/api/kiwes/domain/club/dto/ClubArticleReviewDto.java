@@ -3,6 +3,7 @@ package server.api.kiwes.domain.club.dto;
 import lombok.*;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.review.entity.Review;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 import java.time.format.DateTimeFormatter;
 
@@ -35,16 +36,14 @@ public class ClubArticleReviewDto {
         ClubArticleReviewDtoBuilder builder = ClubArticleReviewDto.builder()
                 .reviewId(review.getId())
                 .reviewerId(reviewer.getId())
-                .reviewerImageUrl("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        reviewer.getProfileImg()+".jpg")
+                .reviewerImageUrl(MediaUrlBuilder.profileImage(reviewer.getProfileImg()))
                 .reviewerNickname(reviewer.getNickname())
                 .reviewContent(review.getReviewContent())
                 .reviewDate(review.getModifiedDate().format(DateTimeFormatter.ofPattern("yy.MM.dd HH:mm")))
                 .isModified(review.getIsModified());
 
         if (respondent != null) {
-            builder = builder.respondentImageUrl("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                            respondent.getProfileImg()+".jpg")
+            builder = builder.respondentImageUrl(MediaUrlBuilder.profileImage(respondent.getProfileImg()))
                     .respondentNickname(respondent.getNickname())
                     .respondentId(respondent.getId());
         }
@@ -54,4 +53,24 @@ public class ClubArticleReviewDto {
                 .build();
     }
 
+    public static ClubArticleReviewDto of(ClubArticleReviewInterface review){
+        ClubArticleReviewDtoBuilder builder = ClubArticleReviewDto.builder()
+                .reviewId(review.getReview_id())
+                .reviewerId(review.getReviewer_id())
+                .reviewerImageUrl(MediaUrlBuilder.profileImage(review.getReviewer_profile_img()))
+                .reviewerNickname(review.getReviewer_nickname())
+                .reviewContent(review.getReview_content())
+                .reviewDate(review.getModified_date().format(DateTimeFormatter.ofPattern("yy.MM.dd HH:mm")))
+                .isModified(review.getIs_modified());
+
+        if (review.getRespondent_id() != null) {
+            builder = builder.respondentImageUrl(MediaUrlBuilder.profileImage(review.getRespondent_profile_img()))
+                    .respondentNickname(review.getRespondent_nickname())
+                    .respondentId(review.getRespondent_id());
+        }
+
+        return builder.replyContent(review.getReply_content())
+                .replyDate(review.getReply_date())
+                .build();
+    }
 }
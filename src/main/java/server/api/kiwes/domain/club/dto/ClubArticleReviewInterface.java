@@ -0,0 +1,20 @@
+package server.api.kiwes.domain.club.dto;
+
+import java.time.LocalDateTime;
+
+public interface ClubArticleReviewInterface {
+    Long getReview_id();
+    String getReview_content();
+    LocalDateTime getModified_date();
+    String getReply_content();
+    String getReply_date();
+    Boolean getIs_modified();
+
+    Long getReviewer_id();
+    String getReviewer_profile_img();
+    String getReviewer_nickname();
+
+    Long getRespondent_id();
+    String getRespondent_profile_img();
+    String getRespondent_nickname();
+}
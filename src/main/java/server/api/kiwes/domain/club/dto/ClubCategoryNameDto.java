@@ -0,0 +1,14 @@
+package server.api.kiwes.domain.club.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import server.api.kiwes.domain.category.type.CategoryType;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClubCategoryNameDto {
+    Long clubId;
+    CategoryType name;
+}
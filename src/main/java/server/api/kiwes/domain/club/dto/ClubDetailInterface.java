@@ -0,0 +1,34 @@
+package server.api.kiwes.domain.club.dto;
+
+import server.api.kiwes.domain.club.constant.ClubStatus;
+import server.api.kiwes.global.entity.Gender;
+
+public interface ClubDetailInterface {
+    Long getClub_id();
+    String getTitle();
+    String getThumbnail_url();
+    Integer getHeart_cnt();
+    Integer getMax_people();
+    String getDate();
+    String getDue_to();
+    Integer getCost();
+    Gender getGender();
+    String getLocation_keyword();
+    String getContent();
+    String getLocation();
+    String getLatitude();
+    String getLongitude();
+    ClubStatus getIs_activated();
+
+    Long getHost_id();
+    String getHost_nickname();
+    String getHost_profile_img();
+    Integer getKorean_count();
+    Integer getForeigner_count();
+
+    String getCategory_name();
+    String getLanguage_names();     // ',' 로 구분된 언어 코드
+
+    Integer getIs_member();         // 조회자의 club_member 존재 여부 (0, 1)
+    Integer getIs_heart();          // 조회자의 찜 여부 (0, 1)
+}
@@ -1,4 +1,4 @@
-package server.api.kiwes.domain.search_count.dto;
+package server.api.kiwes.domain.club.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-public class SearchCountResultDto {
-    private String keyword;
-    private Long count;
+public class ClubHostProfileDto {
+    Long clubId;
+    String profileImg;
 }
@@ -3,6 +3,7 @@ package server.api.kiwes.domain.club.dto;
 import lombok.*;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -10,7 +11,7 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ClubPopularEachResponseDto {
     private Long clubId;
     @Setter
@@ -32,8 +33,7 @@ public class ClubPopularEachResponseDto {
                 .clubId(club.getId())
                 .hostProfileImg(null)
                 .title(club.getTitle())
-                .thumbnailImage("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                        club.getThumbnailUrl())
+                .thumbnailImage(MediaUrlBuilder.clubThumbnail(club.getThumbnailUrl()))
                 .date(club.getDate())
                 .location(club.getLocation())
                 .latitude(club.getLatitude())
@@ -44,4 +44,24 @@ public class ClubPopularEachResponseDto {
                 .current_max(club.getCurrentPeople()+" / " +club.getMaxPeople())
                 .build();
     }
+
+    /**
+     * 인기/추천 모임 스냅샷용. 언어와 호스트 프로필은 일괄 조회한 값을 받는다.
+     */
+    public static ClubPopularEachResponseDto of(Club club, List<String> languages, String hostProfileImg){
+        return ClubPopularEachResponseDto.builder()
+                .clubId(club.getId())
+                .hostProfileImg(MediaUrlBuilder.profileImage(hostProfileImg))
+                .title(club.getTitle())
+                .thumbnailImage(MediaUrlBuilder.clubThumbnail(club.getThumbnailUrl()))
+                .date(club.getDate())
+                .location(club.getLocation())
+                .latitude(club.getLatitude())
+                .longitude(club.getLongitude())
+                .locationKeyword(club.getLocationKeyword())
+                .languages(languages)
+                .isHeart(null)
+                .current_max(club.getCurrentPeople()+" / " +club.getMaxPeople())
+                .build();
+    }
 }
@@ -0,0 +1,7 @@
+package server.api.kiwes.domain.club.dto;
+
+public interface ClubSearchSourceInterface {
+    Long getClub_id();
+    String getTitle();
+    String getContent();
+}
@@ -4,6 +4,7 @@ import lombok.*;
 import server.api.kiwes.domain.club_language.entity.ClubLanguage;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
 import server.api.kiwes.domain.language.type.LanguageType;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,8 +28,7 @@ public class ClubSortResponseDto {
     public ClubSortResponseDto(Long club_id, String title, String thumbnailImage, String date, String location, String latitude, String longitude, HeartStatus status) {
         this.clubId = club_id;
         this.title = title;
-        this.thumbnailImage = "https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                thumbnailImage;
+        this.thumbnailImage = MediaUrlBuilder.clubThumbnail(thumbnailImage);
         this.date = date;
         this.location = location;
         this.latitude = latitude;
@@ -46,6 +46,10 @@ public class ClubSortResponseDto {
         });
     }
 
+    public void setLanguageNames(List<String> languages) {
+        this.languages = languages;
+    }
+
     public void setHeart(Boolean b) {
         if (b) {
             this.isHeart = HeartStatus.YES;
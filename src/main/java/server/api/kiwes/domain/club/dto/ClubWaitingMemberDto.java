@@ -2,6 +2,7 @@ package server.api.kiwes.domain.club.dto;
 
 import lombok.*;
 import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 @Getter
 @Setter
@@ -16,8 +17,7 @@ public class ClubWaitingMemberDto {
     public static ClubWaitingMemberDto of(Member member){
         return ClubWaitingMemberDto.builder()
                 .memberId(member.getId())
-                .profileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        member.getProfileImg()+".jpg")
+                .profileImg(MediaUrlBuilder.profileImage(member.getProfileImg()))
                 .nickname(member.getNickname())
                 .build();
     }
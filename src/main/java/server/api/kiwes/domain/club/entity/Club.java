@@ -14,12 +14,15 @@ import server.api.kiwes.domain.review.entity.Review;
 import server.api.kiwes.global.entity.Gender;
 
 import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.GenerationType.IDENTITY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_club_activated_due_to_date", columnList = "is_activated, due_to_date"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -32,6 +35,7 @@ public class Club extends BaseTimeEntity {
 
     private String date;             // 만나는 날짜
     private String dueTo;            // 모집 마감 날짜
+    private LocalDate dueToDate;     // 모집 마감 날짜 (DATE), 마감 처리 스캔용
     private Integer cost;            // 인당 예상 비용
     private Integer maxPeople;       // 모집 정원
 
@@ -94,4 +98,20 @@ public class Club extends BaseTimeEntity {
     public void subCurrentPeople(){
         this.currentPeople--;
     }
+
+    /**
+     * 마감 날짜는 문자열과 DATE 컬럼을 항상 같이 바꾼다.
+     */
+    public void setDueTo(String dueTo) {
+        this.dueTo = dueTo;
+        this.dueToDate = toDueToDate(dueTo);
+    }
+
+    public static LocalDate toDueToDate(String dueTo) {
+        try {
+            return dueTo == null ? null : LocalDate.parse(dueTo);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
@@ -10,7 +10,9 @@ import server.api.kiwes.domain.club.dto.*;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.member.entity.Member;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface ClubRepository extends JpaRepository<Club, Long> {
     @Query(nativeQuery = true,
@@ -22,6 +24,17 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
                     "order by c.club_id asc limit :cursor,7")
     List<ClubApprovalRequestSimpleInterface> findApprovalRequestSimple(@Param("member") Member member,
                                                                  @Param("cursor") int cursor);
+    @Query(nativeQuery = true,
+            value = "select c.club_id, c.title, (SELECT COUNT(*)  FROM club_member cm2 " +
+                    "WHERE cm2.club_id = c.club_id AND cm2.is_approved = false) AS approval_count " +
+                    "from club c " +
+                    "inner join club_member cm " +
+                    "on c.club_id = cm.club_id and cm.member_id = :member and cm.is_host = true " +
+                    "where c.club_id > :lastId " +
+                    "order by c.club_id asc limit :size")
+    List<ClubApprovalRequestSimpleInterface> findApprovalRequestSimpleByKeyset(@Param("member") Member member,
+                                                                               @Param("lastId") Long lastId,
+                                                                               @Param("size") int size);
     @Query(nativeQuery = true,
             value = "select c.club_id, c.title, c.current_people " +
                     "from club c " +
@@ -47,6 +60,17 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
                     "order by c.club_id asc limit :cursor,7")
     List<ClubApprovalWaitingSimpleInterface> findAllHostClubDetail(@Param("member") Member member,
                                                                  @Param("cursor") int cursor);
+    @Query(nativeQuery = true,
+            value = "select c.club_id, c.title, c.thumbnail_url, c.date, c.Location_keyword, h.status " +
+                    "from club c " +
+                    "inner join club_member cm " +
+                    "on c.club_id = cm.club_id and cm.member_id = :member and cm.is_host=true " +
+                    "left join heart h on h.member_id = :member and h.club_id = c.club_id "+
+                    "where c.club_id > :lastId " +
+                    "order by c.club_id asc limit :size")
+    List<ClubApprovalWaitingSimpleInterface> findAllHostClubDetailByKeyset(@Param("member") Member member,
+                                                                           @Param("lastId") Long lastId,
+                                                                           @Param("size") int size);
     @Query(nativeQuery = true,
             value = "select c.club_id, c.title, (SELECT COUNT(*)  FROM club_member cm2 " +
                     "WHERE cm2.club_id = c.club_id AND cm2.is_approved = false) AS approval_count " +
@@ -70,51 +94,84 @@ public interface ClubRepository extends JpaRepository<Club, Long> {
                                                                  @Param("isHost") Boolean isHost,
                                                                  @Param("isApproved") Boolean isApproved,
                                                                  @Param("cursor") int cursor);
-
-    @Query("select c from Club c where c.isActivated = :status order by c.dueTo ")
-    List<Club> findActivatedClubsOrderByDueTo(@Param("status") ClubStatus status);
-
-    @Query("SELECT c FROM Club c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(c.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Club> findByTitleOrContentContaining(@Param("keyword") String keyword);
     @Query(nativeQuery = true,
-    value = "select * from club c where c.due_to > CURDATE() AND c.is_activated='YES' order by c.heart_cnt desc limit 5")
-    List<Club> findAllOrderByHeartCnt();
+            value = "select c.club_id, c.title, c.thumbnail_url, c.date, c.Location_keyword, h.status " +
+                    "from club c inner join club_member cm on c.club_id = cm.club_id and cm.member_id = :member and cm.is_host = :isHost and cm.is_approved = :isApproved " +
+                    "left join heart h on h.member_id = :member and h.club_id = c.club_id " +
+                    "where c.club_id > :lastId order by c.club_id asc limit :size")
+    List<ClubApprovalWaitingSimpleInterface> findApprovalWaitingSimpleByKeyset(@Param("member") Member member,
+                                                                               @Param("isHost") Boolean isHost,
+                                                                               @Param("isApproved") Boolean isApproved,
+                                                                               @Param("lastId") Long lastId,
+                                                                               @Param("size") int size);
 
     @Query(nativeQuery = true,
-            value = "select * from club c where club_id >0 order by c.heart_cnt desc limit 5")
-    List<Club> findAllOrderByHeartCntOutDate();
+            value = "select c.club_id, c.title, c.thumbnail_url, c.heart_cnt, c.max_people, c.date, c.due_to, c.cost, c.gender, " +
+                    "c.location_keyword, c.content, c.location, c.latitude, c.longitude, c.is_activated, " +
+                    "hm.member_id as host_id, hm.nickname as host_nickname, hm.profile_img as host_profile_img, " +
+                    "coalesce(nc.korean_count, 0) as korean_count, coalesce(nc.foreigner_count, 0) as foreigner_count, " +
+                    "(select cat.name from club_category cc inner join category cat on cat.category_id = cc.category_id " +
+                    "where cc.club_id = c.club_id limit 1) as category_name, " +
+                    "(select group_concat(l.name order by cl.club_language_id separator ',') from club_language cl " +
+                    "inner join language l on l.language_id = cl.language_id where cl.club_id = c.club_id) as language_names, " +
+                    "exists(select 1 from club_member vm where vm.club_id = c.club_id and vm.member_id = :memberId) as is_member, " +
+                    "exists(select 1 from heart h where h.club_id = c.club_id and h.member_id = :memberId and h.status = 'YES') as is_heart " +
+                    "from club c " +
+                    "left join club_member hcm on hcm.club_id = c.club_id and hcm.is_host = true " +
+                    "left join member hm on hm.member_id = hcm.member_id " +
+                    "left join (select cm.club_id, " +
+                    "sum(case when m.nationality = 'KOREA' then 1 else 0 end) as korean_count, " +
+                    "sum(case when m.nationality = 'FOREIGN' then 1 else 0 end) as foreigner_count " +
+                    "from club_member cm inner join member m on m.member_id = cm.member_id " +
+                    "where cm.club_id = :clubId and cm.is_approved = true group by cm.club_id) nc on nc.club_id = c.club_id " +
+                    "where c.club_id = :clubId limit 1")
+    Optional<ClubDetailInterface> findClubDetail(@Param("clubId") Long clubId, @Param("memberId") Long memberId);
 
+    @Modifying
     @Query(nativeQuery = true,
-            value = "select * from club c where c.due_to > CURDATE() AND c.is_activated='YES' order by club_id desc,RAND() limit 3")
-    List<Club> findOrderByHeartCntRandom();
+            value = "update club set is_activated = 'NO' " +
+                    "where is_activated = 'YES' and due_to_date >= :since and due_to_date < CURDATE() limit :size")
+    int deactivateExpired(@Param("since") LocalDate since, @Param("size") int size);
 
+    @Modifying
     @Query(nativeQuery = true,
-            value = "select * from club c where club_id >0 order by club_id desc,RAND() limit 3")
-    List<Club> findOrderByHeartCntRandomOutDate();
+            value = "update club set due_to_date = str_to_date(due_to, '%Y-%m-%d') " +
+                    "where club_id > :fromId and club_id <= :toId and due_to_date is null and due_to is not null")
+    int backfillDueToDate(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
+    @Query(nativeQuery = true, value = "select coalesce(max(club_id), 0) from club")
+    Long findMaxClubId();
+
+    @Query(nativeQuery = true,
+            value = "select c.club_id, c.title, c.content from club c where c.club_id > :lastId order by c.club_id limit :size")
+    List<ClubSearchSourceInterface> findSearchSourceByKeyset(@Param("lastId") Long lastId, @Param("size") int size);
     @Query(nativeQuery = true,
-            value = "select * from club c left join club_language cl on c.club_id = cl.club_id " +
-                    "where c.due_to > CURDATE() AND c.is_activated='YES' AND cl.language_id IN (:languageIds) GROUP BY c.club_id order by c.club_id desc,RAND() limit 5")
-    List<Club> findOrderByLanguages(@Param("languageIds") List<Long> languageIds);
+            value = "select * from club c where c.due_to_date > CURDATE() AND c.is_activated='YES' order by c.heart_cnt desc, c.club_id desc limit :size")
+    List<Club> findActivatedOrderByHeartCnt(@Param("size") int size);
 
     @Query(nativeQuery = true,
-            value = "select * from club c left join club_language cl on c.club_id = cl.club_id " +
-                    "where c.club_id >0 GROUP BY c.club_id order by c.club_id desc,RAND() limit 5")
-    List<Club> findOrderByLanguagesOutDate(@Param("languageIds") List<Long> languageIds);
+            value = "select * from club c where club_id >0 order by c.heart_cnt desc, c.club_id desc limit :size")
+    List<Club> findAllOrderByHeartCnt(@Param("size") int size);
 
+    @Query(nativeQuery = true,
+            value = "select c.* from club c inner join club_language cl on c.club_id = cl.club_id " +
+                    "where c.due_to_date > CURDATE() AND c.is_activated='YES' AND cl.language_id = :languageId " +
+                    "order by c.club_id desc limit :size")
+    List<Club> findActivatedByLanguage(@Param("languageId") Long languageId, @Param("size") int size);
 
     @Query(nativeQuery = true,
             value = "SELECT * FROM club where club_id > 0 ORDER BY club_id DESC LIMIT :cursor,7")
     List<Club> findAllbyCursor(@Param("cursor") int cursor);
 
+    @Query(nativeQuery = true,
+            value = "SELECT * FROM club where club_id < :lastId ORDER BY club_id DESC LIMIT :size")
+    List<Club> findAllByKeyset(@Param("lastId") Long lastId, @Param("size") int size);
 
-    @Modifying
-    @Query("update Club c set c.heartCnt = c.heartCnt + 1 where c.id = :id")
-    int increaseHeartCnt(@Param("id") Long id);
 
     @Modifying
-    @Query("update Club c set c.heartCnt = c.heartCnt - 1 where c.id = :id")
-    int decreaseHeartCnt(@Param("id") Long id);
+    @Query(nativeQuery = true,
+            value = "UPDATE club SET heart_cnt = GREATEST(heart_cnt + :delta, 0) WHERE club_id IN (:clubIds)")
+    int addHeartCnt(@Param("clubIds") List<Long> clubIds, @Param("delta") long delta);
 
     @Modifying
     @Query("UPDATE Club c SET c.isActivated = 'NO' WHERE c.id IN :clubIds")
@@ -12,6 +12,9 @@ import server.api.kiwes.domain.club_member.repository.ClubMemberRepository;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
 import server.api.kiwes.domain.language.entity.Language;
 import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
+import server.api.kiwes.global.dto.CursorPageResponseDto;
+import server.api.kiwes.global.pagination.PageCursor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -64,6 +67,20 @@ public class ClubApprovalService {
         return requestDTOs;
     }
 
+    /**
+     * 내가 호스트인 모임 전체 리스트 - keyset 페이지네이션
+     */
+    public CursorPageResponseDto<ClubApprovalRequestSimpleDto> getRequestsResponse(Member member, PageCursor cursor) {
+        List<ClubApprovalRequestSimpleInterface> requests =
+                clubRepository.findApprovalRequestSimpleByKeyset(member, cursor.getLowerBound(), cursor.getFetchSize());
+        List<ClubApprovalRequestSimpleDto> requestDTOs =  new ArrayList<>();
+        for (ClubApprovalRequestSimpleInterface c : requests) {
+            requestDTOs.add(
+                    new ClubApprovalRequestSimpleDto(c.getClub_id(),c.getTitle(),c.getApproval_count()));
+        }
+        return CursorPageResponseDto.of(requestDTOs, dto -> PageCursor.of(dto.getClubId()));
+    }
+
     public List<ClubApprovalRequestSimpleDto> getAllMyClub(Member member){
         List<MyClubSimpleInterface> requests;
         requests = clubRepository.findAllMyClub(member);
@@ -80,8 +97,7 @@ public class ClubApprovalService {
         for (ClubMineImageInterface c : requests) {
             requestDTOs.add(
                     new ClubMineImageDto(c.getClub_id(),
-                            "https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                                    c.getThumbnail_url()));
+                            MediaUrlBuilder.clubThumbnail(c.getThumbnail_url())));
         }
         return requestDTOs;
     }
@@ -96,6 +112,11 @@ public class ClubApprovalService {
 
         return waitingDTOs;
     }
+    public CursorPageResponseDto<ClubApprovalWaitingSimpleDto> getAllMyOwnClubDetail(Member member, PageCursor cursor) {
+        List<ClubApprovalWaitingSimpleInterface> waitings =
+                clubRepository.findAllHostClubDetailByKeyset(member, cursor.getLowerBound(), cursor.getFetchSize());
+        return getWaitingSimplePage(waitings);
+    }
     public List<ClubApprovalWaitingSimpleDto> getWaitingsResponse(Member member, int cursor) {
         List<ClubApprovalWaitingSimpleInterface> waitings = clubRepository.findApprovalWaitingSimple(member, false, false,cursor*7);
         List<ClubApprovalWaitingSimpleDto> waitingDTOs =  new ArrayList<>();
@@ -108,6 +129,25 @@ public class ClubApprovalService {
         return waitingDTOs;
     }
 
+    public CursorPageResponseDto<ClubApprovalWaitingSimpleDto> getWaitingsResponse(Member member, PageCursor cursor) {
+        List<ClubApprovalWaitingSimpleInterface> waitings =
+                clubRepository.findApprovalWaitingSimpleByKeyset(member, false, false, cursor.getLowerBound(), cursor.getFetchSize());
+        return getWaitingSimplePage(waitings);
+    }
+
+    private CursorPageResponseDto<ClubApprovalWaitingSimpleDto> getWaitingSimplePage(List<ClubApprovalWaitingSimpleInterface> waitings) {
+        List<ClubApprovalWaitingSimpleDto> waitingDTOs =  new ArrayList<>();
+        for (ClubApprovalWaitingSimpleInterface c : waitings) {
+            waitingDTOs.add(
+                    new ClubApprovalWaitingSimpleDto(c.getClub_id(),c.getTitle(),c.getThumbnail_url(),c.getDate(),c.getLocation_keyword(),c.getStatus()));
+        }
+        CursorPageResponseDto<ClubApprovalWaitingSimpleDto> page =
+                CursorPageResponseDto.of(waitingDTOs, dto -> PageCursor.of(dto.getClubId()));
+        getWaitingSimpleDto(page.getContents());
+
+        return page;
+    }
+
     private void getWaitingSimpleDto(List<ClubApprovalWaitingSimpleDto> waitings) {
         for(ClubApprovalWaitingSimpleDto waitingSimpleDto : waitings){
             if(waitingSimpleDto.getIsHeart() == null){
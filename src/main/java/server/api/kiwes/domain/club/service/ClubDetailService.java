@@ -3,19 +3,21 @@ package server.api.kiwes.domain.club.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import server.api.kiwes.domain.club.constant.ClubResponseType;
 import server.api.kiwes.domain.club.dto.*;
 import server.api.kiwes.domain.club.entity.Club;
-import server.api.kiwes.domain.club_category.entity.ClubCategory;
-import server.api.kiwes.domain.club_language.entity.ClubLanguage;
+import server.api.kiwes.domain.club.repository.ClubRepository;
 import server.api.kiwes.domain.club_member.entity.ClubMember;
 import server.api.kiwes.domain.club_member.repository.ClubMemberRepository;
-import server.api.kiwes.domain.heart.service.HeartService;
+import server.api.kiwes.domain.heart.service.HeartCountAggregator;
+import server.api.kiwes.domain.language.type.LanguageType;
 import server.api.kiwes.domain.member.entity.Member;
-import server.api.kiwes.domain.member.entity.Nationality;
-import server.api.kiwes.domain.member.repository.MemberRepository;
-import server.api.kiwes.domain.qna.constant.QnaDeletedStatus;
-import server.api.kiwes.domain.qna.entity.Qna;
-import server.api.kiwes.domain.review.entity.Review;
+import server.api.kiwes.domain.qna.repository.QnaRepository;
+import server.api.kiwes.domain.review.repository.ReviewRepository;
+import server.api.kiwes.domain.translate.service.LocalizedTexts;
+import server.api.kiwes.domain.translate.service.PreTranslationService;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
+import server.api.kiwes.response.BizException;
 
 import java.time.LocalDate;
 import java.time.Month;
@@ -23,25 +25,33 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static server.api.kiwes.domain.translate.constant.TranslationEntityType.*;
+import static server.api.kiwes.domain.translate.constant.TranslationField.*;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ClubDetailService {
-    private final HeartService heartService;
+    private static final int ARTICLE_PREVIEW_SIZE = 3;
+
+    private final ClubRepository clubRepository;
     private final ClubMemberRepository clubMemberRepository;
+    private final QnaRepository qnaRepository;
+    private final ReviewRepository reviewRepository;
+    private final HeartCountAggregator heartCountAggregator;
+    private final PreTranslationService preTranslationService;
 
     public ClubMemberInfoDto getClubSimple(Club club) {
         Member host = getHostFrom(club);
         List<ClubMembersInfoDto> members = clubMemberRepository.findAllMembersInClub(club);
         for (ClubMembersInfoDto member : members) {
             String thumbnail = member.getThumbnail();
-            thumbnail = "https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/" + thumbnail + ".jpg";
+            thumbnail = MediaUrlBuilder.profileImage(thumbnail);
             member.setThumbnail(thumbnail);
         }
         ClubMemberInfoDto memberInfoDto = ClubMemberInfoDto.builder()
                 .hostId(host.getId())
-                .hostThumbnailImage("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        host.getProfileImg()+".jpg")
+                .hostThumbnailImage(MediaUrlBuilder.profileImage(host.getProfileImg()))
                 .hostNickname(host.getNickname())
                 .currentPeople(club.getCurrentPeople())
                 .title(club.getTitle())
@@ -52,85 +62,93 @@ public class ClubDetailService {
 
     /**
      * 모임 상세정보 페이지에 필요한 정보들 리턴
+     * 모임/호스트/국적 수/태그/조회자 상태 1번, qna 1번, review 1번 조회로 구성한다.
+     * language 가 있으면 미리 번역해둔 제목/소개/qna/review 로 바꿔서 준다. (번역 API 호출 없음)
      */
-    public ClubArticleResponseDto getClubDetail(Member member, Club club) {
-        ClubArticleBaseInfoDto baseInfoDto;
-        ClubArticleMemberInfoDto memberInfoDto;
-        List<ClubArticleQnaDto> qnas = new ArrayList<>();
-        List<ClubArticleReviewDto> reviews = new ArrayList<>();
+    public ClubArticleResponseDto getClubDetail(Member member, Long clubId) {
+        return getClubDetail(member, clubId, null);
+    }
 
-        Member host = getHostFrom(club);
-        Map<Nationality, Integer> memberNationCountMap = getNationCountFrom(club);
+    public ClubArticleResponseDto getClubDetail(Member member, Long clubId, LanguageType language) {
+        ClubDetailInterface club = clubRepository.findClubDetail(clubId, member.getId())
+                .orElseThrow(() -> new BizException(ClubResponseType.CLUB_NOT_EXIST));
 
-        baseInfoDto = ClubArticleBaseInfoDto.builder()
-                .clubId(club.getId())
+        ClubArticleBaseInfoDto baseInfoDto = ClubArticleBaseInfoDto.builder()
+                .clubId(club.getClub_id())
                 .title(club.getTitle())
-                .maxPeople(club.getMaxPeople())
-                .thumbnailImageUrl("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                 club.getThumbnailUrl())
-                .heartCount(club.getHeartCnt())
+                .maxPeople(club.getMax_people())
+                .thumbnailImageUrl(MediaUrlBuilder.clubThumbnail(club.getThumbnail_url()))
+                .heartCount(heartCountAggregator.getLiveHeartCount(club.getClub_id(), club.getHeart_cnt()))
                 .tags(getTagList(club))
                 .date(formateDate(club.getDate()))
-                .dueTo(formateDate(club.getDueTo()))
+                .dueTo(formateDate(club.getDue_to()))
                 .cost(club.getCost())
                 .gender(club.getGender().getName())
-                .locationKeyword(club.getLocationKeyword())
+                .locationKeyword(club.getLocation_keyword())
                 .content(club.getContent())
                 .location(club.getLocation())
                 .latitude(club.getLatitude())
                 .longitude(club.getLongitude())
-                .dateInfo(new String[]{club.getDate(), club.getDueTo()})
+                .dateInfo(new String[]{club.getDate(), club.getDue_to()})
                 .build();
-        memberInfoDto = ClubArticleMemberInfoDto.builder()
-                .hostId(host.getId())
-                .hostThumbnailImage("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        host.getProfileImg()+".jpg")
-                .hostNickname(host.getNickname())
-                .koreanCount(memberNationCountMap.get(Nationality.KOREA))
-                .foreignerCount(memberNationCountMap.get(Nationality.FOREIGN))
-                .maxPeople(club.getMaxPeople())
+        ClubArticleMemberInfoDto memberInfoDto = ClubArticleMemberInfoDto.builder()
+                .hostId(club.getHost_id())
+                .hostThumbnailImage(MediaUrlBuilder.profileImage(club.getHost_profile_img()))
+                .hostNickname(club.getHost_nickname())
+                .koreanCount(club.getKorean_count())
+                .foreignerCount(club.getForeigner_count())
+                .maxPeople(club.getMax_people())
                 .build();
 
-
-        // qnaDtos 채우기 - 최대 2개
-        for(Qna qna : club.getQnas()){
-            if(qna.getIsDeleted().equals(QnaDeletedStatus.YES)) continue;
-            qnas.add(ClubArticleQnaDto.of(qna));
-
-            if(qnas.size() > 2) break;
-        }
-
-        // reviews 채우기 - 최대 2개
-        for(Review review : club.getReviews()){
-            reviews.add(ClubArticleReviewDto.of(review));
-
-            if(reviews.size() > 2) break;
-        }
-        boolean isApproval= !clubMemberRepository.findByClubAndMember(club,member).isEmpty();
+        // 삭제되지 않은 qna, review 최대 3개
+        List<ClubArticleQnaDto> qnas = qnaRepository.findClubArticleQnas(clubId, ARTICLE_PREVIEW_SIZE).stream()
+                .map(ClubArticleQnaDto::of)
+                .collect(Collectors.toList());
+        List<ClubArticleReviewDto> reviews = reviewRepository.findClubArticleReviews(clubId, ARTICLE_PREVIEW_SIZE).stream()
+                .map(ClubArticleReviewDto::of)
+                .collect(Collectors.toList());
+        if (language != null) localize(language, baseInfoDto, qnas, reviews);
 
         return ClubArticleResponseDto.builder()
                 .baseInfo(baseInfoDto)
                 .memberInfo(memberInfoDto)
                 .qnas(qnas)
                 .reviews(reviews)
-                .isHost(host.getId().equals(member.getId()))
-                .isApproval(isApproval)
-                .isHeart(heartService.getHearted(club, member))
-                .isActivated(club.getIsActivated())
+                .isHost(member.getId().equals(club.getHost_id()))
+                .isApproval(club.getIs_member() > 0)
+                .isHeart(club.getIs_heart() > 0)
+                .isActivated(club.getIs_activated())
                 .build();
     }
 
+    private void localize(LanguageType language, ClubArticleBaseInfoDto baseInfo,
+                          List<ClubArticleQnaDto> qnas, List<ClubArticleReviewDto> reviews) {
+        LocalizedTexts texts = preTranslationService.findClubDetail(language, baseInfo.getClubId(),
+                qnas.stream().map(ClubArticleQnaDto::getQnaId).collect(Collectors.toList()),
+                reviews.stream().map(ClubArticleReviewDto::getReviewId).collect(Collectors.toList()));
+
+        baseInfo.setTitle(texts.get(CLUB, baseInfo.getClubId(), TITLE, baseInfo.getTitle()));
+        baseInfo.setContent(texts.get(CLUB, baseInfo.getClubId(), CONTENT, baseInfo.getContent()));
+        for (ClubArticleQnaDto qna : qnas) {
+            qna.setQuestionContent(texts.get(QNA, qna.getQnaId(), QUESTION, qna.getQuestionContent()));
+        }
+        for (ClubArticleReviewDto review : reviews) {
+            review.setReviewContent(texts.get(REVIEW, review.getReviewId(), CONTENT, review.getReviewContent()));
+            review.setReplyContent(texts.get(REVIEW, review.getReviewId(), REPLY, review.getReplyContent()));
+        }
+    }
+
     /**
-     * 모임 상세정보에 들어갈 tag 리스트 구성
+     * 모임 상세정보에 들어갈 tag 리스트 구성 (카테고리, 언어 순)
      */
-    private List<String> getTagList(Club club){
+    private List<String> getTagList(ClubDetailInterface club){
         List<String> tags = new ArrayList<>();
 
-        tags.add(club.getCategory().getCategory().getName().getName());
-
-
-        for(ClubLanguage clubLanguage : club.getLanguages()){
-            tags.add(clubLanguage.getLanguage().getName().getName());
+        if(club.getCategory_name() != null){
+            tags.add(club.getCategory_name());
+        }
+        if(club.getLanguage_names() != null){
+            tags.addAll(Arrays.asList(club.getLanguage_names().split(",")));
         }
 
         return tags;
@@ -150,30 +168,6 @@ public class ClubDetailService {
         return null;
     }
 
-    /**
-     * 승인된 클럽 구성원의 국적 숫자 리턴. (한국인, 외국인)
-     */
-    private Map<Nationality, Integer> getNationCountFrom(Club club){
-        Integer korean = 0;
-        Integer foreigner = 0;
-        List<ClubMember> clubMembers = club.getMembers();
-        for(ClubMember clubMember : clubMembers){
-            if(clubMember.getIsApproved()){
-                Nationality nationality = clubMember.getMember().getNationality();
-                if(nationality == Nationality.KOREA) korean++;
-                else if(nationality == Nationality.FOREIGN) foreigner++;
-            }
-        }
-
-        Map<Nationality, Integer> result = new HashMap<>();
-        result.put(Nationality.KOREA, korean);
-        result.put(Nationality.FOREIGN, foreigner);
-
-        return result;
-    }
-
-
-
     /**
      * 날짜를 Mar 2 의 포맷으로 변경
      */
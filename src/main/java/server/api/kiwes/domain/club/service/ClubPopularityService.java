@@ -0,0 +1,210 @@
+package server.api.kiwes.domain.club.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import server.api.kiwes.domain.club.dto.ClubHostProfileDto;
+import server.api.kiwes.domain.club.dto.ClubLanguageNameDto;
+import server.api.kiwes.domain.club.dto.ClubPopularEachResponseDto;
+import server.api.kiwes.domain.club.entity.Club;
+import server.api.kiwes.domain.club.repository.ClubRepository;
+import server.api.kiwes.domain.club_language.repository.ClubLanguageRepository;
+import server.api.kiwes.domain.club_member.repository.ClubMemberRepository;
+import server.api.kiwes.domain.heart.constant.HeartStatus;
+import server.api.kiwes.domain.heart.repository.HeartRepository;
+import server.api.kiwes.domain.language.entity.Language;
+import server.api.kiwes.domain.language.language.LanguageRepository;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.domain.member_language.repository.MemberLanguageRepository;
+import server.api.kiwes.global.util.AfterCommit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 화면의 인기/추천 모임 레일을 미리 계산해 메모리에 들고 있는 서비스.
+ * 스냅샷은 주기적으로, 혹은 찜/모임 변경으로 dirty 표시가 되면 다시 계산한다.
+ * 요청 시점에는 조회자의 찜 여부만 한번에 조회해서 채운다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ClubPopularityService {
+    private static final int POPULAR_SIZE = 5;
+    private static final int RECOMMAND_SIZE = 5;
+    private static final int RANDOM_SIZE = 3;
+    private static final int POOL_SIZE = 30;
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final ClubRepository clubRepository;
+    private final ClubLanguageRepository clubLanguageRepository;
+    private final ClubMemberRepository clubMemberRepository;
+    private final LanguageRepository languageRepository;
+    private final HeartRepository heartRepository;
+    private final MemberLanguageRepository memberLanguageRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Snapshot snapshot;
+
+    /**
+     * 인기 모임 (찜 수 상위 5개)
+     */
+    public List<ClubPopularEachResponseDto> getPopularClubs(Member member) {
+        List<ClubPopularEachResponseDto> popular = getSnapshot().popular;
+        return withHeart(member, popular.subList(0, Math.min(POPULAR_SIZE, popular.size())));
+    }
+
+    /**
+     * 인기 모임 후보군에서 무작위 3개
+     */
+    public List<ClubPopularEachResponseDto> getPopularRandomClubs(Member member) {
+        return withHeart(member, sample(getSnapshot().popular, RANDOM_SIZE));
+    }
+
+    /**
+     * 내 언어 모임 후보군에서 무작위 5개. 후보가 없으면 최신 모임에서 뽑는다.
+     */
+    public List<ClubPopularEachResponseDto> getRecommandClubs(Member member) {
+        Snapshot current = getSnapshot();
+        Map<Long, ClubPopularEachResponseDto> candidates = new LinkedHashMap<>();
+        for (Long languageId : memberLanguageRepository.findLanguageIdsByMemberId(member.getId())) {
+            for (ClubPopularEachResponseDto club : current.byLanguage.getOrDefault(languageId, List.of())) {
+                candidates.putIfAbsent(club.getClubId(), club);
+            }
+        }
+        List<ClubPopularEachResponseDto> pool = candidates.isEmpty()
+                ? current.latest
+                : new ArrayList<>(candidates.values());
+
+        return withHeart(member, sample(pool, RECOMMAND_SIZE));
+    }
+
+    /**
+     * 찜, 모임 생성/수정/삭제 시 호출. 다음 주기에 스냅샷을 다시 계산한다.
+     * 트랜잭션 안이라면 커밋된 뒤에 표시해서, 그 사이 도는 refresh 가 커밋 전 데이터로 dirty 를 지우지 않게 한다.
+     */
+    public void markDirty() {
+        AfterCommit.run(() -> dirty.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${kiwes.club.popular.refresh-delay:10000}")
+    public void refreshIfStale() {
+        Snapshot current = snapshot;
+        if (dirty.get() || current == null || current.isOlderThan(MAX_AGE)) {
+            refresh();
+        }
+    }
+
+    public synchronized void refresh() {
+        dirty.set(false);
+
+        List<Club> popular = clubRepository.findActivatedOrderByHeartCnt(POOL_SIZE);
+        if (popular.isEmpty()) {
+            popular = clubRepository.findAllOrderByHeartCnt(POOL_SIZE);
+        }
+        List<Club> latest = clubRepository.findAllByKeyset(Long.MAX_VALUE, POOL_SIZE);
+        Map<Long, List<Club>> byLanguage = new HashMap<>();
+        for (Language language : languageRepository.findAll()) {
+            byLanguage.put(language.getId(), clubRepository.findActivatedByLanguage(language.getId(), POOL_SIZE));
+        }
+
+        Map<Long, Club> clubs = new HashMap<>();
+        popular.forEach(club -> clubs.put(club.getId(), club));
+        latest.forEach(club -> clubs.put(club.getId(), club));
+        byLanguage.values().forEach(list -> list.forEach(club -> clubs.put(club.getId(), club)));
+
+        Map<Long, ClubPopularEachResponseDto> templates = toTemplates(clubs);
+        Map<Long, List<ClubPopularEachResponseDto>> languagePools = new HashMap<>();
+        byLanguage.forEach((languageId, list) -> languagePools.put(languageId, pick(templates, list)));
+
+        snapshot = new Snapshot(pick(templates, popular), pick(templates, latest), languagePools, LocalDateTime.now());
+        log.info("popular club snapshot refreshed - {} clubs", templates.size());
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * 스냅샷에 들어가는 모임들의 언어, 호스트 프로필을 일괄 조회해 응답 템플릿을 만든다.
+     */
+    private Map<Long, ClubPopularEachResponseDto> toTemplates(Map<Long, Club> clubs) {
+        if (clubs.isEmpty()) return Map.of();
+
+        Map<Long, List<String>> languages = new HashMap<>();
+        for (ClubLanguageNameDto clubLanguage : clubLanguageRepository.findLanguageNamesByClubIds(clubs.keySet())) {
+            languages.computeIfAbsent(clubLanguage.getClubId(), id -> new ArrayList<>())
+                    .add(clubLanguage.getName().getName());
+        }
+        Map<Long, String> hostProfiles = new HashMap<>();
+        for (ClubHostProfileDto host : clubMemberRepository.findHostProfilesByClubIds(clubs.keySet())) {
+            hostProfiles.put(host.getClubId(), host.getProfileImg());
+        }
+
+        Map<Long, ClubPopularEachResponseDto> templates = new HashMap<>();
+        clubs.forEach((id, club) -> templates.put(id, ClubPopularEachResponseDto.of(club,
+                List.copyOf(languages.getOrDefault(id, List.of())), hostProfiles.get(id))));
+        return templates;
+    }
+
+    private List<ClubPopularEachResponseDto> pick(Map<Long, ClubPopularEachResponseDto> templates, List<Club> clubs) {
+        return clubs.stream()
+                .map(club -> templates.get(club.getId()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private List<ClubPopularEachResponseDto> sample(List<ClubPopularEachResponseDto> pool, int size) {
+        List<ClubPopularEachResponseDto> shuffled = new ArrayList<>(pool);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled.subList(0, Math.min(size, shuffled.size()));
+    }
+
+    /**
+     * 조회자의 찜 여부를 한번의 쿼리로 채워 템플릿의 복사본을 반환
+     */
+    private List<ClubPopularEachResponseDto> withHeart(Member member, List<ClubPopularEachResponseDto> clubs) {
+        if (clubs.isEmpty()) return new ArrayList<>();
+
+        List<Long> clubIds = clubs.stream()
+                .map(ClubPopularEachResponseDto::getClubId)
+                .collect(Collectors.toList());
+        Set<Long> hearted = new HashSet<>(heartRepository.findHeartedClubIds(member.getId(), clubIds, HeartStatus.YES));
+
+        return clubs.stream()
+                .map(club -> club.toBuilder()
+                        .isHeart(hearted.contains(club.getClubId()) ? HeartStatus.YES : HeartStatus.NO)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static class Snapshot {
+        private final List<ClubPopularEachResponseDto> popular;                    // 찜 수 내림차순
+        private final List<ClubPopularEachResponseDto> latest;                     // 최신순
+        private final Map<Long, List<ClubPopularEachResponseDto>> byLanguage;      // 언어 id 별 최신순
+        private final LocalDateTime createdAt;
+
+        private Snapshot(List<ClubPopularEachResponseDto> popular, List<ClubPopularEachResponseDto> latest,
+                         Map<Long, List<ClubPopularEachResponseDto>> byLanguage, LocalDateTime createdAt) {
+            this.popular = popular;
+            this.latest = latest;
+            this.byLanguage = byLanguage;
+            this.createdAt = createdAt;
+        }
+
+        private boolean isOlderThan(Duration age) {
+            return createdAt.plus(age).isBefore(LocalDateTime.now());
+        }
+    }
+}
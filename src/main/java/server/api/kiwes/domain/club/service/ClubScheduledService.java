@@ -1,39 +1,85 @@
 package server.api.kiwes.domain.club.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import server.api.kiwes.domain.club.constant.ClubStatus;
-import server.api.kiwes.domain.club.entity.Club;
+import org.springframework.transaction.support.TransactionTemplate;
 import server.api.kiwes.domain.club.repository.ClubRepository;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
 
+/**
+ * 마감 기한이 지난 모임 비활성화.
+ * (is_activated, due_to_date) 인덱스를 타는 bulk UPDATE 를 청크 단위 트랜잭션으로 반복하므로
+ * 모임 수와 상관없이 메모리 사용량과 트랜잭션 크기가 일정하다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ClubScheduledService {
+    private static final int SWEEP_CHUNK_SIZE = 1000;
+    private static final int BACKFILL_CHUNK_SIZE = 5000;
+    private static final LocalDate BEGINNING = LocalDate.of(1970, 1, 1);
+
     private final ClubRepository clubRepository;
+    private final ClubPopularityService clubPopularityService;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile LocalDate sweptUntil;   // 이 날짜 이전에 마감된 모임은 이미 비활성화되어 있다.
 
     /**
-     * 매일 0시 모든 클럽을 스캔하여 마감기한이 지난 클럽은 비활성화
+     * 매일 0시 마감기한이 지난 모든 모임 비활성화
      */
     @Scheduled(cron = "0 0 0 * * ?") // 매일 0시
     public void deactivateClubAfterDueTo(){
-        List<Club> allClubs = clubRepository.findActivatedClubsOrderByDueTo(ClubStatus.YES);
-        for(Club club : allClubs){
-            if(LocalDate.now().compareTo(convertToLocalDate(club.getDueTo())) <= 0) {
-                return;
-            }
+        sweep(BEGINNING);
+    }
+
+    /**
+     * 몇 분마다 지난 스캔 이후 새로 마감된 모임만 비활성화
+     */
+    @Scheduled(fixedDelayString = "${kiwes.club.expire.incremental-delay:300000}")
+    public void deactivateNewlyExpiredClubs(){
+        LocalDate since = sweptUntil;
+        sweep(since == null ? BEGINNING : since);
+    }
 
-            club.setIsActivated(ClubStatus.NO);
+    /**
+     * 기존 모임의 due_to_date 를 문자열 due_to 로부터 채운 뒤 한번 전체 스캔한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDueToDate(){
+        long maxClubId = clubRepository.findMaxClubId();
+        int filled = 0;
+        for (long fromId = 0; fromId < maxClubId; fromId += BACKFILL_CHUNK_SIZE) {
+            long from = fromId;
+            Integer updated = transactionTemplate.execute(status ->
+                    clubRepository.backfillDueToDate(from, from + BACKFILL_CHUNK_SIZE));
+            filled += updated == null ? 0 : updated;
         }
+        if (filled > 0) log.info("club due_to_date backfilled - {} clubs", filled);
+
+        sweep(BEGINNING);
     }
 
-    private LocalDate convertToLocalDate(String date){
-        return LocalDate.parse(date, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    private synchronized void sweep(LocalDate since){
+        LocalDate today = LocalDate.now();
+        int deactivated = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status ->
+                    clubRepository.deactivateExpired(since, SWEEP_CHUNK_SIZE));
+            int count = updated == null ? 0 : updated;
+            deactivated += count;
+            if (count < SWEEP_CHUNK_SIZE) break;
+        }
+        sweptUntil = today;
+
+        if (deactivated > 0) {
+            clubPopularityService.markDirty();
+            log.info("expired clubs deactivated - {} clubs (due to since {})", deactivated, since);
+        }
     }
 }
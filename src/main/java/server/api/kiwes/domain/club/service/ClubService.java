@@ -3,6 +3,7 @@ package server.api.kiwes.domain.club.service;
 import com.amazonaws.services.kms.model.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.api.kiwes.domain.category.entity.Category;
@@ -21,21 +22,20 @@ import server.api.kiwes.domain.club_language.entity.ClubLanguage;
 import server.api.kiwes.domain.club_language.repository.ClubLanguageRepository;
 import server.api.kiwes.domain.club_member.entity.ClubMember;
 import server.api.kiwes.domain.club_member.repository.ClubMemberRepository;
-import server.api.kiwes.domain.heart.constant.HeartStatus;
-import server.api.kiwes.domain.heart.entity.Heart;
-import server.api.kiwes.domain.heart.repository.HeartRepository;
 import server.api.kiwes.domain.language.entity.Language;
 import server.api.kiwes.domain.language.language.LanguageRepository;
 import server.api.kiwes.domain.language.type.LanguageType;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.repository.MemberRepository;
-import server.api.kiwes.domain.member_language.repository.MemberLanguageRepository;
+import server.api.kiwes.domain.search.index.ClubSearchIndex;
+import server.api.kiwes.domain.translate.constant.TranslationEntityType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+import server.api.kiwes.domain.translate.event.TranslationEvent;
 import server.api.kiwes.global.entity.Gender;
 import server.api.kiwes.response.BizException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -48,8 +48,9 @@ public class ClubService {
     private final ClubMemberRepository clubMemberRepository;
     private final ClubLanguageRepository clubLanguageRepository;
     private final ClubCategoryRepository clubCategoryRepository;
-    private final HeartRepository heartRepository;
-    private final MemberLanguageRepository memberLanguageRepository;
+    private final ClubPopularityService clubPopularityService;
+    private final ClubSearchIndex clubSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -75,6 +76,7 @@ public class ClubService {
         Club club = Club.builder()
                 .date(requestDto.getDate())
                 .dueTo(requestDto.getDueTo())
+                .dueToDate(Club.toDueToDate(requestDto.getDueTo()))
                 .cost(requestDto.getCost())
                 .maxPeople(requestDto.getMaxPeople())
                 .gender(gender)
@@ -90,6 +92,9 @@ public class ClubService {
         club.setLanguages(getClubLanguageEntities(requestDto.getLanguages(), club));
         club.setMembers(getClubMemberEntities(member, club));
         club.setCategory(getClubCategoryEntities(requestDto.getCategory(), club));
+        clubPopularityService.markDirty();
+        clubSearchIndex.index(club);
+        publishTranslation(club);
 
         return ClubCreatedResponseDto.builder()
                 .clubId(club.getId())
@@ -119,6 +124,9 @@ public class ClubService {
         club.getLanguages().addAll(getClubLanguageEntities(requestDto.getLanguages(), club)); // 새 엔티티를 추가합니다.
 //        club.setLanguages(getClubLanguageEntities(requestDto.getLanguages(), club));
         updateClubCategoryEntities(requestDto.getCategory(), club);
+        clubPopularityService.markDirty();
+        clubSearchIndex.index(club);
+        publishTranslation(club);
 
         return ClubCreatedResponseDto.builder()
                 .clubId(club.getId())
@@ -133,6 +141,8 @@ public class ClubService {
      */
     public void deleteClub(Club club) {
         clubRepository.delete(club);
+        clubPopularityService.markDirty();
+        clubSearchIndex.remove(club.getId());
     }
     /**
      * 요청으로부터 넘어온 언어코드를 토대로 ClubLanguage 리스트를 만들어 반환
@@ -166,6 +176,15 @@ public class ClubService {
         return clubCategory;
     }
 
+    /**
+     * 제목, 소개를 모임 언어들로 미리 번역
+     */
+    private void publishTranslation(Club club) {
+        eventPublisher.publishEvent(TranslationEvent.of(TranslationEntityType.CLUB, club.getId(), club.getId())
+                .field(TranslationField.TITLE, club.getTitle())
+                .field(TranslationField.CONTENT, club.getContent()));
+    }
+
     private ClubCategory updateClubCategoryEntities(String categoryString, Club club){
         CategoryType type = CategoryType.valueOf(categoryString);
         Category category = categoryRepository.findByName(type);
@@ -243,46 +262,18 @@ public class ClubService {
      * 인기 모임 조회 (5개)
      */
     public List<ClubPopularEachResponseDto> getPopularClubs(Member member) {
-        List<ClubPopularEachResponseDto> response = new ArrayList<>();
-        List<Club> clubs = clubRepository.findAllOrderByHeartCnt();
-
-        if(clubs.isEmpty()){
-            clubs = clubRepository.findAllOrderByHeartCntOutDate();
-        }
-        for(Club club : clubs){
-            response.add(eachPopularClub(club,member));
-        }
-        return response;
+        return clubPopularityService.getPopularClubs(member);
     }
 
     public List<ClubPopularEachResponseDto> getRecommandClubs(Member member) {
-        List<ClubPopularEachResponseDto> response = new ArrayList<>();
-
-        List<Long> languageIds = memberLanguageRepository.findLanguageIdsByMemberId(member.getId());
-        List<Club> clubs = clubRepository.findOrderByLanguages(languageIds);
-        if(clubs.isEmpty()){
-            clubs = clubRepository.findOrderByLanguagesOutDate(languageIds);
-        }
-        for(Club club : clubs){
-            response.add(eachPopularClub(club,member));
-        }
-        return response;
+        return clubPopularityService.getRecommandClubs(member);
     }
 
     /**
      * 인기 모임 무작위 조회 (3개)
      */
     public List<ClubPopularEachResponseDto> getPopularRandomClubs(Member member) {
-        List<ClubPopularEachResponseDto> response = new ArrayList<>();
-        List<Club> clubs = clubRepository.findOrderByHeartCntRandomOutDate();
-            // clubRepository.findOrderByHeartCntRandom();
-        // if(clubs.isEmpty()){
-        //     clubs = clubRepository.findOrderByHeartCntRandomOutDate();
-        // }
-        for(Club club : clubs){
-            response.add(eachPopularClub(club,member));
-        }
-        return response;
+        return clubPopularityService.getPopularRandomClubs(member);
     }
 
 
@@ -291,15 +282,7 @@ public class ClubService {
      */
     public void setClubThumbnailImageUrl(Club club){
         club.setThumbnailUrl(String.valueOf(UUID.randomUUID()));
-    }
-    private ClubPopularEachResponseDto eachPopularClub(Club club,Member member) {
-        ClubPopularEachResponseDto each = ClubPopularEachResponseDto.of(club);
-        each.setHostProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                clubMemberRepository.findByClubHost(club).get().getMember().getProfileImg()+".jpg");
-
-        Optional<Heart> heart = heartRepository.findByClubAndMember(club, member);
-        each.setIsHeart(heart.isPresent() ? heart.get().getStatus() : HeartStatus.NO);
-        return each;
+        clubPopularityService.markDirty();
     }
 
 }
@@ -8,25 +8,28 @@ import server.api.kiwes.domain.category.entity.Category;
 import server.api.kiwes.domain.category.repository.CategoryRepository;
 import server.api.kiwes.domain.category.type.CategoryType;
 import server.api.kiwes.domain.club.constant.ClubResponseType;
+import server.api.kiwes.domain.club.dto.ClubLanguageNameDto;
 import server.api.kiwes.domain.club.dto.ClubSortInterface;
 import server.api.kiwes.domain.club.dto.ClubSortResponseDto;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club.repository.ClubRepository;
 import server.api.kiwes.domain.club_category.entity.ClubCategory;
 import server.api.kiwes.domain.club_category.repository.ClubCategoryRepository;
-import server.api.kiwes.domain.club_language.entity.ClubLanguage;
 import server.api.kiwes.domain.club_language.repository.ClubLanguageRepository;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
-import server.api.kiwes.domain.heart.entity.Heart;
+import server.api.kiwes.domain.heart.repository.HeartRepository;
 import server.api.kiwes.domain.language.entity.Language;
 import server.api.kiwes.domain.language.language.LanguageRepository;
 import server.api.kiwes.domain.language.type.LanguageType;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.service.MemberService;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
+import server.api.kiwes.global.dto.CursorPageResponseDto;
+import server.api.kiwes.global.pagination.PageCursor;
 import server.api.kiwes.response.BizException;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -40,6 +43,7 @@ public class ClubSortService {
 
     private final LanguageRepository languageRepository;
     private final ClubLanguageRepository clubLanguageRepository;
+    private final HeartRepository heartRepository;
     private final MemberService memberService;
 
     /**
@@ -55,61 +59,91 @@ public class ClubSortService {
         List<Club> clubByPage = clubRepository.findAllbyCursor(cursor);
         List<ClubSortResponseDto> clubsbyPageDTO = new ArrayList<>();
         for (Club club : clubByPage) {
-            List<String> languages= new ArrayList<>();
-            List<ClubLanguage> clubLanguageList = club.getLanguages();
-            for (ClubLanguage cl : clubLanguageList) {
-                languages.add(cl.getLanguage().getName().getName());
-            }
-            List<Heart> heartLIst = club.getHearts();
-            HeartStatus isHeart = HeartStatus.NO;
-            for (Heart heart : heartLIst) {
-                if(heart.getMember().getId() == memberId){
-                    isHeart = heart.getStatus();
-                }
-            }
-            clubsbyPageDTO.add(
-                    ClubSortResponseDto.builder()
-                            .clubId(club.getId())
-                            .title(club.getTitle())
-                            .thumbnailImage("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                                    club.getThumbnailUrl())
-                            .date(club.getDate())
-                            .location(club.getLocation())
-                            .latitude(club.getLatitude())
-                            .longitude(club.getLongitude())
-                            .languages(languages)
-                            .isHeart(isHeart)
-                            .build());
+            clubsbyPageDTO.add(getClubSortResponseDto(club));
         }
-        return clubsbyPageDTO;
+        return hydrate(clubsbyPageDTO, memberId);
     }
+
+    /**
+     * 모임 전체 조회 - keyset 페이지네이션
+     */
+    public CursorPageResponseDto<ClubSortResponseDto> getClubsByCursor(PageCursor cursor, Long memberId){
+        List<Club> clubByPage = clubRepository.findAllByKeyset(cursor.getUpperBound(), cursor.getFetchSize());
+        List<ClubSortResponseDto> clubsbyPageDTO = new ArrayList<>();
+        for (Club club : clubByPage) {
+            clubsbyPageDTO.add(getClubSortResponseDto(club));
+        }
+        return CursorPageResponseDto.of(hydrate(clubsbyPageDTO, memberId), dto -> PageCursor.of(dto.getClubId()));
+    }
+
+    private ClubSortResponseDto getClubSortResponseDto(Club club){
+        return ClubSortResponseDto.builder()
+                .clubId(club.getId())
+                .title(club.getTitle())
+                .thumbnailImage(MediaUrlBuilder.clubThumbnail(club.getThumbnailUrl()))
+                .date(club.getDate())
+                .location(club.getLocation())
+                .latitude(club.getLatitude())
+                .longitude(club.getLongitude())
+                .build();
+    }
+
     /**
      * 카테고리별 모임
      * @param categories
      */
     public List<ClubSortResponseDto> getClubByCategory(List<String> categories, int cursor){
         Member member = memberService.getLoggedInMember();
-        List<Long> clubIds = new ArrayList<>();
+        return getClubSortResponseDtosAllByTypeIds(member,
+                clubCategoryRepository.findAllByTypeIds(getCategoryIds(categories),member.getId(),cursor));
+    }
 
+    /**
+     * 카테고리별 모임 - keyset 페이지네이션
+     */
+    public CursorPageResponseDto<ClubSortResponseDto> getClubByCategory(List<String> categories, PageCursor cursor){
+        Member member = memberService.getLoggedInMember();
+        List<ClubSortResponseDto> clubs = getClubSortResponseDtosAllByTypeIds(member,
+                clubCategoryRepository.findAllByTypeIdsAndKeyset(getCategoryIds(categories), member.getId(),
+                        cursor.getUpperBound(), cursor.getFetchSize()));
+        return CursorPageResponseDto.of(clubs, dto -> PageCursor.of(dto.getClubId()));
+    }
+
+    public List<ClubSortResponseDto> getClubByLanguages(List<String> languages, int cursor){
+        Member member = memberService.getLoggedInMember();
+        return getClubSortResponseDtosAllByTypeIds(member,
+                clubLanguageRepository.findAllByTypeIds(getLanguageIds(languages),member.getId(),cursor));
+    }
+
+    /**
+     * 언어별 모임 - keyset 페이지네이션
+     */
+    public CursorPageResponseDto<ClubSortResponseDto> getClubByLanguages(List<String> languages, PageCursor cursor){
+        Member member = memberService.getLoggedInMember();
+        List<ClubSortResponseDto> clubs = getClubSortResponseDtosAllByTypeIds(member,
+                clubLanguageRepository.findAllByTypeIdsAndKeyset(getLanguageIds(languages), member.getId(),
+                        cursor.getUpperBound(), cursor.getFetchSize()));
+        return CursorPageResponseDto.of(clubs, dto -> PageCursor.of(dto.getClubId()));
+    }
+
+    private List<Long> getCategoryIds(List<String> categories){
+        List<Long> categoryIds = new ArrayList<>();
         for (String categoryString : categories) {
             CategoryType type = CategoryType.valueOf(categoryString);
             Category category = categoryRepository.findByName(type);
-            clubIds.add(category.getId());
+            categoryIds.add(category.getId());
         }
-        return getClubSortResponseDtosAllByTypeIds(member,clubCategoryRepository.findAllByTypeIds(clubIds,member.getId(),cursor));
-
-
+        return categoryIds;
     }
-    public List<ClubSortResponseDto> getClubByLanguages(List<String> languages, int cursor){
-        Member member = memberService.getLoggedInMember();
-        List<Long> clubIds = new ArrayList<>();
 
+    private List<Long> getLanguageIds(List<String> languages){
+        List<Long> languageIds = new ArrayList<>();
         for (String languageString : languages) {
             LanguageType type = LanguageType.valueOf(languageString);
             Language language = languageRepository.findByName(type);
-            clubIds.add(language.getId());
+            languageIds.add(language.getId());
         }
-        return getClubSortResponseDtosAllByTypeIds(member, clubLanguageRepository.findAllByTypeIds(clubIds,member.getId(),cursor));
+        return languageIds;
     }
     @NotNull
     private List<ClubSortResponseDto> getClubSortResponseDtosAllByTypeIds(Member member,List<ClubSortInterface> allByTypeIds) {
@@ -119,21 +153,31 @@ public class ClubSortService {
                     new ClubSortResponseDto(c.getClub_id(),c.getTitle(),c.getThumbnail_url(),c.getDate(),
                             c.getLocation(),c.getLatitude(),c.getLongitude(),c.getStatus()));
         }
-        for (ClubSortResponseDto clubsbyPageDTO : clubsbyPageDTOs) {
-            Club club = findById(clubsbyPageDTO.getClubId());
-
-            clubsbyPageDTO.setLanguages(club.getLanguages());
-
-            if (club.getHearts().size() > 0) {
-                club.getHearts().forEach(heartMember -> {
-                    if (heartMember.getId().equals(member.getId())) {
-                        clubsbyPageDTO.setHeart(true);
-                    }
-                });
-            } else{
-                clubsbyPageDTO.setHeart(false);
-            }
+        return hydrate(clubsbyPageDTOs, member.getId());
+    }
+
+    /**
+     * 페이지 단위로 언어, 찜 여부를 한번에 채운다.
+     * 모임 수와 상관없이 언어 조회 1번, 찜 조회 1번
+     */
+    private List<ClubSortResponseDto> hydrate(List<ClubSortResponseDto> clubs, Long memberId) {
+        if (clubs.isEmpty()) return clubs;
+
+        List<Long> clubIds = clubs.stream()
+                .map(ClubSortResponseDto::getClubId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<String>> languagesByClub = new HashMap<>();
+        for (ClubLanguageNameDto clubLanguage : clubLanguageRepository.findLanguageNamesByClubIds(clubIds)) {
+            languagesByClub.computeIfAbsent(clubLanguage.getClubId(), id -> new ArrayList<>())
+                    .add(clubLanguage.getName().getName());
+        }
+        Set<Long> heartedClubIds = new HashSet<>(heartRepository.findHeartedClubIds(memberId, clubIds, HeartStatus.YES));
+
+        for (ClubSortResponseDto club : clubs) {
+            club.setLanguageNames(languagesByClub.getOrDefault(club.getClubId(), new ArrayList<>()));
+            club.setHeart(heartedClubIds.contains(club.getClubId()));
         }
-        return clubsbyPageDTOs;
+        return clubs;
     }
 }
@@ -4,12 +4,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import server.api.kiwes.domain.category.entity.Category;
+import server.api.kiwes.domain.club.dto.ClubCategoryNameDto;
 import server.api.kiwes.domain.club.dto.ClubSortInterface;
 import server.api.kiwes.domain.club.dto.ClubSortResponseDto;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club_category.entity.ClubCategory;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ClubCategoryRepository extends JpaRepository<ClubCategory, Long> {
@@ -25,6 +27,22 @@ public interface ClubCategoryRepository extends JpaRepository<ClubCategory, Long
     List<ClubSortInterface> findAllByTypeIds(@Param("categoryIds") List<Long> categoryIds,
                                              @Param("memberId") Long memberId, @Param("cursor") int cursor);
 
+    @Query(nativeQuery = true,
+            value = "SELECT distinct c.club_id, c.title, c.thumbnail_url, c.date, c.location, c.latitude, c.longitude, h.status " +
+                    "FROM club_category cc " +
+                    "LEFT OUTER JOIN heart h ON h.club_id = cc.club_id AND h.member_id = :memberId " +
+                    "INNER JOIN club c ON c.club_id = cc.club_id " +
+                    "WHERE cc.category_id IN (:categoryIds) AND cc.club_id < :lastId " +
+                    "ORDER BY cc.club_id DESC LIMIT :size")
+    List<ClubSortInterface> findAllByTypeIdsAndKeyset(@Param("categoryIds") List<Long> categoryIds,
+                                                      @Param("memberId") Long memberId,
+                                                      @Param("lastId") Long lastId, @Param("size") int size);
+
+    @Query("select new server.api.kiwes.domain.club.dto.ClubCategoryNameDto(cc.club.id, cc.category.name) " +
+            "from ClubCategory cc " +
+            "where cc.club.id in :clubIds")
+    List<ClubCategoryNameDto> findCategoryNamesByClubIds(@Param("clubIds") Collection<Long> clubIds);
+
     ClubCategory findByClubId(Long id);
 }
 
@@ -3,11 +3,13 @@ package server.api.kiwes.domain.club_language.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import server.api.kiwes.domain.club.dto.ClubLanguageNameDto;
 import server.api.kiwes.domain.club.dto.ClubSortInterface;
 import server.api.kiwes.domain.club.dto.ClubSortResponseDto;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club_language.entity.ClubLanguage;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ClubLanguageRepository extends JpaRepository<ClubLanguage, Long> {
@@ -16,6 +18,11 @@ public interface ClubLanguageRepository extends JpaRepository<ClubLanguage, Long
             "where cl.club.id = :clubId")
     List<ClubLanguage> findByClubId(@Param("clubId")Long clubId);
 
+    @Query("select new server.api.kiwes.domain.club.dto.ClubLanguageNameDto(cl.club.id, cl.language.name) " +
+            "from ClubLanguage cl " +
+            "where cl.club.id in :clubIds order by cl.id")
+    List<ClubLanguageNameDto> findLanguageNamesByClubIds(@Param("clubIds") Collection<Long> clubIds);
+
     @Query(nativeQuery = true,
             value = "SELECT distinct c.club_id, c.title, c.thumbnail_url, c.date, c.location , c.latitude, c.longitude, h.status " +
                     "FROM club_language cl " +
@@ -26,5 +33,16 @@ public interface ClubLanguageRepository extends JpaRepository<ClubLanguage, Long
     List<ClubSortInterface> findAllByTypeIds(@Param("languageIds") List<Long> languageIds,
                                              @Param("memberId") Long memberId, @Param("cursor") int cursor);
 
+    @Query(nativeQuery = true,
+            value = "SELECT distinct c.club_id, c.title, c.thumbnail_url, c.date, c.location , c.latitude, c.longitude, h.status " +
+                    "FROM club_language cl " +
+                    "LEFT OUTER JOIN heart h ON h.club_id = cl.club_id AND h.member_id = :memberId " +
+                    "INNER JOIN club c ON c.club_id = cl.club_id " +
+                    "WHERE cl.language_id IN (:languageIds) AND cl.club_id < :lastId " +
+                    "ORDER BY cl.club_id DESC LIMIT :size")
+    List<ClubSortInterface> findAllByTypeIdsAndKeyset(@Param("languageIds") List<Long> languageIds,
+                                                      @Param("memberId") Long memberId,
+                                                      @Param("lastId") Long lastId, @Param("size") int size);
+
     void deleteAllByClubId(Long id);
 }
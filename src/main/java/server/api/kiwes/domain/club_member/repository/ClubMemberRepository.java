@@ -3,12 +3,14 @@ package server.api.kiwes.domain.club_member.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import server.api.kiwes.domain.club.dto.ClubHostProfileDto;
 import server.api.kiwes.domain.club.dto.ClubMembersInfoDto;
 import server.api.kiwes.domain.club.dto.ClubWaitingMemberDto;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club_member.entity.ClubMember;
 import server.api.kiwes.domain.member.entity.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,11 @@ public interface ClubMemberRepository extends JpaRepository<ClubMember, Long> {
             "where cm.club = :club and cm.isHost = true")
     Optional<ClubMember> findByClubHost(@Param("club") Club club);
 
+    @Query("select new server.api.kiwes.domain.club.dto.ClubHostProfileDto(cm.club.id, cm.member.profileImg) " +
+            "from ClubMember cm " +
+            "where cm.club.id in :clubIds and cm.isHost = true")
+    List<ClubHostProfileDto> findHostProfilesByClubIds(@Param("clubIds") Collection<Long> clubIds);
+
     @Query("select cm from ClubMember cm " +
             "where cm.member = :member and cm.isHost = true")
     List<ClubMember> findByMemberHost(@Param("member") Member member);
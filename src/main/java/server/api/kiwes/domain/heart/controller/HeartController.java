@@ -10,7 +10,8 @@ import server.api.kiwes.domain.club.service.ClubService;
 import server.api.kiwes.domain.heart.constant.HeartResponseType;
 import server.api.kiwes.domain.heart.service.HeartService;
 import server.api.kiwes.domain.member.entity.Member;
-import server.api.kiwes.domain.member.service.MemberService;
+import server.api.kiwes.global.pagination.PageCursor;
+import server.api.kiwes.global.security.principal.CurrentMember;
 import server.api.kiwes.response.ApiResponse;
 
 @Api(tags = "Heart - 모임 찜하기")
@@ -18,7 +19,6 @@ import server.api.kiwes.response.ApiResponse;
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/heart")
 public class HeartController {
-    private final MemberService memberService;
     private final ClubService clubService;
     private final HeartService heartService;
 
@@ -33,8 +33,7 @@ public class HeartController {
             @io.swagger.annotations.ApiResponse(code = 20201, message = "찜하기 성공"),
     })
     @PutMapping("/{clubId}")
-    public ApiResponse<Object> heartClub(@PathVariable Long clubId){
-        Member member = memberService.getLoggedInMember();
+    public ApiResponse<Object> heartClub(@PathVariable Long clubId, @CurrentMember(lazy = true) Member member){
         Club club = clubService.findById(clubId);
         heartService.heart(member, club);
 
@@ -51,8 +50,7 @@ public class HeartController {
             @io.swagger.annotations.ApiResponse(code = 20202, message = "찜하기 취소 성공"),
     })
     @DeleteMapping("/{clubId}")
-    public ApiResponse<Object> unheartClub(@PathVariable Long clubId){
-        Member member = memberService.getLoggedInMember();
+    public ApiResponse<Object> unheartClub(@PathVariable Long clubId, @CurrentMember(lazy = true) Member member){
         Club club = clubService.findById(clubId);
         heartService.unheart(member, club);
 
@@ -65,9 +63,15 @@ public class HeartController {
             "  \"status\": 20202,\n" +
             "  \"message\": \"찜하기 취소 성공\",\n" +
             "  \"data\": null\n" +
-            "}")
+            "}" +
+            "\n\nnext 파라미터를 보내면 keyset 페이지네이션으로 조회 (첫 페이지는 빈 문자열)\n" +
+            "응답의 nextCursor 를 다음 요청의 next 로 그대로 전달. 이 경우 cursor 는 무시됨")
     @GetMapping("/club_list")
-    public ApiResponse<Object> heartClubList(@RequestParam int cursor){
+    public ApiResponse<Object> heartClubList(@RequestParam(defaultValue = "0") int cursor,
+                                             @RequestParam(required = false) String next){
+        if(next != null){
+            return ApiResponse.of(HeartResponseType.HEART_RETRIVE_SUCCEED, heartService.getHeartedAll(PageCursor.decode(next)));
+        }
         return ApiResponse.of(HeartResponseType.HEART_RETRIVE_SUCCEED,heartService.getHeartedAll(cursor));
     }
 }
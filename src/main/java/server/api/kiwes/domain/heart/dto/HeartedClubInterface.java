@@ -0,0 +1,6 @@
+package server.api.kiwes.domain.heart.dto;
+
+public interface HeartedClubInterface {
+    Long getHeart_id();
+    Long getClub_id();
+}
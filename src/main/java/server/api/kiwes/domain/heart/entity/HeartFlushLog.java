@@ -0,0 +1,22 @@
+package server.api.kiwes.domain.heart.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영된 찜 수 로그 묶음. 같은 묶음을 두 번 반영하지 않도록 찜 수 UPDATE 와 같은 트랜잭션에서 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_heart_flush_log_created_date", columnList = "created_date"))
+public class HeartFlushLog {
+    @Id
+    @Column(name = "FLUSH_ID", length = 100)
+    private String flushId;
+
+    private LocalDateTime createdDate;
+}
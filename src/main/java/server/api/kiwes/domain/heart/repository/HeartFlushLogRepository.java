@@ -0,0 +1,18 @@
+package server.api.kiwes.domain.heart.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.api.kiwes.domain.heart.entity.HeartFlushLog;
+
+public interface HeartFlushLogRepository extends JpaRepository<HeartFlushLog, String> {
+
+    /**
+     * 처음 반영하는 묶음이면 1, 이미 반영된 묶음이면 0
+     */
+    @Modifying
+    @Query(nativeQuery = true,
+            value = "INSERT IGNORE INTO heart_flush_log (flush_id, created_date) VALUES (:flushId, now())")
+    int insertIfAbsent(@Param("flushId") String flushId);
+}
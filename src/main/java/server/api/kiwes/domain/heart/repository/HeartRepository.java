@@ -4,16 +4,32 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import server.api.kiwes.domain.club.entity.Club;
+import server.api.kiwes.domain.heart.constant.HeartStatus;
+import server.api.kiwes.domain.heart.dto.HeartedClubInterface;
 import server.api.kiwes.domain.heart.entity.Heart;
 import server.api.kiwes.domain.member.entity.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface HeartRepository extends JpaRepository<Heart, Long> {
     Optional<Heart> findByClubAndMember(Club club, Member member);
 
+    @Query("select h.club.id from Heart h " +
+            "where h.member.id = :memberId and h.status = :status and h.club.id in :clubIds")
+    List<Long> findHeartedClubIds(@Param("memberId") Long memberId,
+                                  @Param("clubIds") Collection<Long> clubIds,
+                                  @Param("status") HeartStatus status);
+
     @Query(nativeQuery = true,
             value = "SELECT club_id FROM heart where status= 'YES' AND member_id = :memberId ORDER BY heart_id asc limit :cursor,7")
     List<Long> findAllHearted(@Param("memberId")Long memberId,@Param("cursor") int cursor );
+
+    @Query(nativeQuery = true,
+            value = "SELECT heart_id, club_id FROM heart where status= 'YES' AND member_id = :memberId AND heart_id > :lastHeartId " +
+                    "ORDER BY heart_id asc limit :size")
+    List<HeartedClubInterface> findAllHeartedByKeyset(@Param("memberId") Long memberId,
+                                                      @Param("lastHeartId") Long lastHeartId,
+                                                      @Param("size") int size);
 }
\ No newline at end of file
@@ -0,0 +1,358 @@
+package server.api.kiwes.domain.heart.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import server.api.kiwes.domain.club.repository.ClubRepository;
+import server.api.kiwes.domain.club.service.ClubPopularityService;
+import server.api.kiwes.domain.heart.repository.HeartFlushLogRepository;
+import server.api.kiwes.global.util.AfterCommit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모임 찜 수 write-behind 집계기.
+ * 찜/찜 취소마다 club row 를 UPDATE 하지 않고 모임별 증감분을 모아두었다가
+ * 몇 초마다 같은 증감분끼리 묶어 한번에 UPDATE 한다.
+ * 커밋된 증감분은 먼저 인스턴스별 Redis 해시(write-ahead log)에 쓰고, 쓰기에 성공한 것만 메모리에 모은다.
+ * flush 때 로그를 묶음 키로 rename 해서 봉인하고, 그 묶음을 반영한 뒤 지운다.
+ * 반영 여부는 같은 트랜잭션에서 heart_flush_log 에 남기므로, 같은 묶음을 누가 몇 번 다시 반영해도 한 번만 더해진다.
+ * 죽은 인스턴스가 남긴 로그와 묶음은 살아있는 인스턴스가 이어받아 반영한다.
+ */
+@Slf4j
+@Component
+public class HeartCountAggregator {
+    private static final String WAL_KEY_PREFIX = "kiwes:heart:wal:";            // 적재 중인 로그
+    private static final String BATCH_KEY_PREFIX = "kiwes:heart:batch:";        // 봉인된 묶음
+    private static final String BATCHES_KEY_PREFIX = "kiwes:heart:batches:";    // 인스턴스별 반영 전 묶음 목록
+    private static final String ALIVE_KEY_PREFIX = "kiwes:heart:alive:";
+    private static final String RECOVER_LOCK_PREFIX = "kiwes:heart:recover:";
+    private static final String INSTANCES_KEY = "kiwes:heart:instances";
+    private static final Duration WAL_TTL = Duration.ofDays(7);
+    private static final Duration RECOVER_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final ClubRepository clubRepository;
+    private final ClubPopularityService clubPopularityService;
+    private final HeartFlushLogRepository heartFlushLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration aliveTtl;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final List<Batch> unapplied = new CopyOnWriteArrayList<>();
+    private final ReadWriteLock sealLock = new ReentrantReadWriteLock();   // 적재는 읽기 락, 봉인은 쓰기 락
+    private long generation;                                                // 쓰기 락 안에서만 접근
+
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "heart-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HeartCountAggregator(ClubRepository clubRepository,
+                                ClubPopularityService clubPopularityService,
+                                HeartFlushLogRepository heartFlushLogRepository,
+                                PlatformTransactionManager transactionManager,
+                                StringRedisTemplate stringRedisTemplate,
+                                @Value("${kiwes.heart.alive-ttl-seconds:30}") long aliveTtlSeconds) {
+        this.clubRepository = clubRepository;
+        this.clubPopularityService = clubPopularityService;
+        this.heartFlushLogRepository = heartFlushLogRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.aliveTtl = Duration.ofSeconds(aliveTtlSeconds);
+        // 커밋 이후(afterCommit)에도 불리므로 항상 새 트랜잭션으로 반영한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * flush 나 DB 가 느려져도 생존 표시가 끊기지 않도록 별도 스레드에서 갱신한다.
+     */
+    @PostConstruct
+    public void startHeartbeat() {
+        long period = Math.max(aliveTtl.toMillis() / 3, 1000);
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 증감분 적재. 트랜잭션 안이라면 커밋된 뒤에만 반영한다.
+     * 로그를 쓰지 못하면 (Redis 장애) 메모리에 모으지 않고 바로 UPDATE 한다.
+     */
+    public void add(Long clubId, long delta) {
+        AfterCommit.run(() -> {
+            if (!accumulateWithLog(clubId, delta)) applyDirectly(clubId, delta);
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분
+     */
+    public long getPendingDelta(Long clubId) {
+        long delta = pending.getOrDefault(clubId, 0L);
+        for (Batch batch : unapplied) {
+            delta += batch.deltas.getOrDefault(clubId, 0L);
+        }
+        return delta;
+    }
+
+    /**
+     * DB 값에 미반영 증감분을 더한 현재 찜 수
+     */
+    public int getLiveHeartCount(Long clubId, Integer persisted) {
+        long live = (persisted == null ? 0 : persisted) + getPendingDelta(clubId);
+        return (int) Math.max(live, 0);
+    }
+
+    /**
+     * 적재 중인 로그를 봉인하고, 반영 전 묶음을 순서대로 반영한다. 실패한 묶음은 다음 flush 때 같은 묶음으로 다시 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${kiwes.heart.flush-delay:3000}")
+    public synchronized void flush() {
+        seal();
+        for (Batch batch : unapplied) {
+            try {
+                applyBatch(instanceId, batch.generation);
+            } catch (RuntimeException e) {
+                log.error("heart count flush failed, retry next time - {}", e.getMessage());
+                return;
+            }
+            discard(instanceId, batch.generation);
+            unapplied.remove(batch);
+        }
+    }
+
+    /**
+     * 죽은 인스턴스가 남긴 로그를 반영한다. 인스턴스마다 Redis 락을 잡아 한 곳에서만 반영한다.
+     * 살아있는 인스턴스를 죽은 것으로 잘못 보더라도, 로그를 rename 으로 가져오고 묶음 단위로 한 번만 반영하므로
+     * 중복으로 더하거나 그 사이 들어온 증감분을 잃지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${kiwes.heart.recover-delay:60000}")
+    public void recover() {
+        try {
+            Set<String> instances = stringRedisTemplate.opsForSet().members(INSTANCES_KEY);
+            if (instances == null) return;
+            for (String deadId : instances) {
+                if (deadId.equals(instanceId) || Boolean.TRUE.equals(stringRedisTemplate.hasKey(ALIVE_KEY_PREFIX + deadId))) {
+                    continue;
+                }
+                String lock = RECOVER_LOCK_PREFIX + deadId;
+                if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lock, instanceId, RECOVER_LOCK_TTL))) {
+                    continue;
+                }
+                try {
+                    recoverInstance(deadId);
+                } finally {
+                    stringRedisTemplate.delete(lock);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("heart count recovery failed, retry next time - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정상 종료 시 남은 증감분을 반영하고, 비어 있는 로그를 정리한다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        heartbeatExecutor.shutdownNow();
+        flush();
+        if (!pending.isEmpty() || !unapplied.isEmpty()) return;   // 반영 실패분은 로그에 남겨 다른 인스턴스가 복구하게 한다.
+        try {
+            Long remaining = stringRedisTemplate.opsForSet().size(BATCHES_KEY_PREFIX + instanceId);
+            if (remaining != null && remaining > 0) return;
+            stringRedisTemplate.delete(List.of(ALIVE_KEY_PREFIX + instanceId, BATCHES_KEY_PREFIX + instanceId));
+            stringRedisTemplate.opsForSet().remove(INSTANCES_KEY, instanceId);
+        } catch (RuntimeException e) {
+            log.warn("heart write-ahead log cleanup failed - {}", e.getMessage());
+        }
+    }
+
+    private void recoverInstance(String deadId) {
+        String walKey = WAL_KEY_PREFIX + deadId;
+        String batchesKey = BATCHES_KEY_PREFIX + deadId;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(walKey))) {
+            sealLog(deadId, "recovered-" + System.currentTimeMillis());
+        }
+
+        Set<String> generations = stringRedisTemplate.opsForSet().members(batchesKey);
+        if (generations != null) {
+            for (String generation : generations) {
+                applyBatch(deadId, generation);
+                discard(deadId, generation);
+            }
+        }
+
+        // 그 사이 (죽은 줄 알았던) 인스턴스가 다시 쓴 로그가 없을 때만 목록에서 뺀다.
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(walKey)) && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(batchesKey))) {
+            stringRedisTemplate.opsForSet().remove(INSTANCES_KEY, deadId);
+        }
+        log.info("heart count recovered from instance {} - {} batches", deadId, generations == null ? 0 : generations.size());
+    }
+
+    private boolean accumulateWithLog(Long clubId, long delta) {
+        sealLock.readLock().lock();
+        try {
+            writeAhead(clubId, delta);
+            accumulate(clubId, delta);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("heart write-ahead log failed, update directly - club {}, {}", clubId, e.getMessage());
+            return false;
+        } finally {
+            sealLock.readLock().unlock();
+        }
+    }
+
+    private void applyDirectly(Long clubId, long delta) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                clubRepository.addHeartCnt(List.of(clubId), delta);
+                clubPopularityService.markDirty();
+            });
+        } catch (RuntimeException e) {
+            log.error("heart count update failed - club {}, delta {}, {}", clubId, delta, e.getMessage());
+        }
+    }
+
+    /**
+     * 적재 중인 로그를 새 묶음으로 봉인하고 메모리의 증감분을 그 묶음으로 옮긴다.
+     * 쓰기 락 안에서 하므로 로그와 메모리가 같은 묶음으로 나뉜다. 봉인하지 못하면 다음 flush 때 다시 시도한다.
+     */
+    private void seal() {
+        sealLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) return;
+            String sealed = String.valueOf(++generation);
+            try {
+                sealLog(instanceId, sealed);
+            } catch (RuntimeException e) {
+                log.warn("heart write-ahead log seal failed, retry next time - {}", e.getMessage());
+                return;
+            }
+            unapplied.add(new Batch(sealed, new HashMap<>(pending)));
+            pending.clear();
+        } finally {
+            sealLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 봉인된 묶음을 Redis 에서 읽어 반영한다. 이미 반영된 묶음이면 아무것도 하지 않는다.
+     * 같은 증감분을 가진 모임끼리 묶어 UPDATE 횟수를 줄인다.
+     */
+    private void applyBatch(String id, String generation) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(BATCH_KEY_PREFIX + id + ":" + generation);
+        Map<Long, List<Long>> clubIdsByDelta = new HashMap<>();
+        entries.forEach((clubId, delta) -> {
+            long value = Long.parseLong((String) delta);
+            if (value != 0) clubIdsByDelta.computeIfAbsent(value, d -> new ArrayList<>()).add(Long.valueOf((String) clubId));
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (heartFlushLogRepository.insertIfAbsent(id + ":" + generation) == 0) return;
+            clubIdsByDelta.forEach((delta, clubIds) -> clubRepository.addHeartCnt(clubIds, delta));
+            if (!clubIdsByDelta.isEmpty()) clubPopularityService.markDirty();
+        });
+    }
+
+    /**
+     * 합이 0 이 된 모임은 맵에서 빼서 맵이 계속 커지지 않게 한다.
+     */
+    private void accumulate(Long clubId, long delta) {
+        pending.merge(clubId, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    /**
+     * 인스턴스 등록, 로그 증가, 만료 갱신을 한 번의 왕복으로 보낸다.
+     */
+    private void writeAhead(Long clubId, long delta) {
+        String walKey = WAL_KEY_PREFIX + instanceId;
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                redis.opsForSet().add(INSTANCES_KEY, instanceId);
+                redis.opsForHash().increment(walKey, String.valueOf(clubId), delta);
+                redis.expire(walKey, WAL_TTL);
+                return null;
+            }
+        });
+    }
+
+    private void sealLog(String id, String generation) {
+        String batchesKey = BATCHES_KEY_PREFIX + id;
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                redis.rename(WAL_KEY_PREFIX + id, BATCH_KEY_PREFIX + id + ":" + generation);
+                redis.opsForSet().add(batchesKey, generation);
+                redis.expire(batchesKey, WAL_TTL);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 반영이 끝난 묶음을 지운다. 지우지 못해도 다시 반영될 때 heart_flush_log 로 걸러지므로 로그만 남긴다.
+     */
+    private void discard(String id, String generation) {
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    redis.delete(BATCH_KEY_PREFIX + id + ":" + generation);
+                    redis.opsForSet().remove(BATCHES_KEY_PREFIX + id, generation);
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("heart write-ahead batch cleanup failed - {}:{}, {}", id, generation, e.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        try {
+            stringRedisTemplate.opsForValue().set(ALIVE_KEY_PREFIX + instanceId, "1", aliveTtl);
+        } catch (RuntimeException e) {
+            log.warn("heart instance heartbeat failed - {}", e.getMessage());
+        }
+    }
+
+    private static class Batch {
+        private final String generation;
+        private final Map<Long, Long> deltas;   // 반영 전까지 현재 찜 수 계산에 쓴다.
+
+        private Batch(String generation, Map<Long, Long> deltas) {
+            this.generation = generation;
+            this.deltas = deltas;
+        }
+    }
+}
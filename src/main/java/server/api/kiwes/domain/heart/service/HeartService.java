@@ -9,9 +9,13 @@ import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club.repository.ClubRepository;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
 import server.api.kiwes.domain.heart.dto.HeartSortResponseDto;
+import server.api.kiwes.domain.heart.dto.HeartedClubInterface;
 import server.api.kiwes.domain.heart.entity.Heart;
 import server.api.kiwes.domain.heart.repository.HeartRepository;
 import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
+import server.api.kiwes.global.dto.CursorPageResponseDto;
+import server.api.kiwes.global.pagination.PageCursor;
 import server.api.kiwes.global.security.util.SecurityUtils;
 
 import java.util.ArrayList;
@@ -23,6 +27,7 @@ import java.util.List;
 public class HeartService {
     private final HeartRepository heartRepository;
     private final ClubRepository clubRepository;
+    private final HeartCountAggregator heartCountAggregator;
     /**
      * 클럽, 멤버를 가지고 heart 여부 리턴
      */
@@ -35,10 +40,9 @@ public class HeartService {
     }
 
     /**
-     * 모임 찜하기
+     * 모임 찜하기. 찜 수는 상태가 바뀔 때만 집계기에 반영한다.
      */
     public void heart(Member member, Club club) {
-        clubRepository.increaseHeartCnt(club.getId());
         Heart heart = heartRepository.findByClubAndMember(club, member)
                 .orElse(null);
 
@@ -49,10 +53,13 @@ public class HeartService {
                     .build();
 
             heartRepository.save(newHeart);
+            heartCountAggregator.add(club.getId(), 1);
             return;
         }
-        heart.setStatus(HeartStatus.YES);
-
+        if(heart.getStatus() == HeartStatus.NO){
+            heart.setStatus(HeartStatus.YES);
+            heartCountAggregator.add(club.getId(), 1);
+        }
     }
 
     /**
@@ -62,12 +69,10 @@ public class HeartService {
         Heart heart = heartRepository.findByClubAndMember(club, member)
                 .orElse(null);
 
-        if(heart == null) return;
+        if(heart == null || heart.getStatus() == HeartStatus.NO) return;
 
         heart.setStatus(HeartStatus.NO);
-        if(club.getHeartCnt()>0){
-            clubRepository.decreaseHeartCnt(club.getId());
-        }
+        heartCountAggregator.add(club.getId(), -1);
     }
 
     public List<HeartSortResponseDto> getHeartedAll(int cursor) {
@@ -76,18 +81,33 @@ public class HeartService {
 
         List<HeartSortResponseDto> heartListDTO =  new ArrayList<>();
         for (Long club_id : clubList) {
-            Club club = clubRepository.findById(club_id).get();
-            HeartSortResponseDto heartSortResponseDto = HeartSortResponseDto.builder()
-                    .clubId(club.getId())
-                    .title(club.getTitle())
-                    .thumbnailImage("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                            club.getThumbnailUrl())
-                    .locationKeyword(club.getLocationKeyword())
-                    .date(club.getDueTo())
-                    .build();
-            heartSortResponseDto.setLanguages(club.getLanguages());
-            heartListDTO.add(heartSortResponseDto);
+            heartListDTO.add(getHeartSortResponseDto(club_id));
         }
         return heartListDTO;
     }
+
+    /**
+     * 찜한 모임 목록 - keyset 페이지네이션. 정렬 키는 heart_id
+     */
+    public CursorPageResponseDto<HeartSortResponseDto> getHeartedAll(PageCursor cursor) {
+        Long memberId = SecurityUtils.getLoggedInUser().getId();
+        List<HeartedClubInterface> hearted = heartRepository.findAllHeartedByKeyset(memberId,
+                cursor.getLowerBound(), cursor.getFetchSize());
+
+        return CursorPageResponseDto.of(hearted, h -> PageCursor.of(h.getClub_id(), h.getHeart_id()))
+                .map(h -> getHeartSortResponseDto(h.getClub_id()));
+    }
+
+    private HeartSortResponseDto getHeartSortResponseDto(Long clubId) {
+        Club club = clubRepository.findById(clubId).get();
+        HeartSortResponseDto heartSortResponseDto = HeartSortResponseDto.builder()
+                .clubId(club.getId())
+                .title(club.getTitle())
+                .thumbnailImage(MediaUrlBuilder.clubThumbnail(club.getThumbnailUrl()))
+                .locationKeyword(club.getLocationKeyword())
+                .date(club.getDueTo())
+                .build();
+        heartSortResponseDto.setLanguages(club.getLanguages());
+        return heartSortResponseDto;
+    }
 }
\ No newline at end of file
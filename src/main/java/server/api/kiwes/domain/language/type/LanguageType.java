@@ -6,18 +6,19 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum LanguageType {
-    KO("KO"),
-    EN("EN"),
-    JP("JP"),
-    CH1("CH1"),
-    CH2("CH2"),
-    FR("FR"),
-    ES("ES"),
-    DE("DE"),
-    RU("RU"),
-    VN("VN"),
-    OTHER("OTHER"),
+    KO("KO", "ko"),
+    EN("EN", "en"),
+    JP("JP", "ja"),
+    CH1("CH1", "zh"),
+    CH2("CH2", "zh-TW"),
+    FR("FR", "fr"),
+    ES("ES", "es"),
+    DE("DE", "de"),
+    RU("RU", "ru"),
+    VN("VN", "vi"),
+    OTHER("OTHER", null),
     ;
 
     public final String name;
+    public final String translateCode;    // AWS Translate 언어 코드. 번역 대상이 아니면 null
 }
@@ -6,7 +6,6 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.annotation.*;
 import server.api.kiwes.domain.club_member.service.ClubMemberService;
 import server.api.kiwes.domain.member.constant.MemberResponseType;
@@ -15,6 +14,7 @@ import server.api.kiwes.domain.member.dto.*;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.service.MemberService;
 import server.api.kiwes.domain.member.service.auth.MemberAuthenticationService;
+import server.api.kiwes.global.aws.ImageType;
 import server.api.kiwes.global.aws.PreSignedUrlService;
 import server.api.kiwes.global.security.util.SecurityUtils;
 import server.api.kiwes.response.BizException;
@@ -170,10 +170,10 @@ public class MemberController {
             "}")
     @GetMapping("mypage/profileImg")
     public ApiResponse<Object> profileImg() {
-        preSignedUrlService.DeleteImage("profileimg/"+memberService.getPreProfileImg()+".jpg");
-        String fileName = memberService.changeProfileImg() + ".jpg";
+        preSignedUrlService.DeleteImage(ImageType.PROFILE_IMAGE, memberService.getPreProfileImg());
+        String fileId = memberService.changeProfileImg();
         return ApiResponse.of(MemberResponseType.PROFILE_IMG_SUCCESS,
-                preSignedUrlService.getPreSignedUrl("profileimg/", fileName));
+                preSignedUrlService.getPreSignedUrl(ImageType.PROFILE_IMAGE, fileId));
     }
 
 
@@ -222,10 +222,6 @@ public class MemberController {
         clubMemberService.quit(authenticationService.quit());
         return ApiResponse.of(MemberResponseType.QUIT_SUCCESS);
     }
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 0시
-    public void removeDeletedOld(){
-        authenticationService.deleteOld();
-    }
     @ApiOperation(value = "내 아이디 가져오기", notes = "내 id 가져오기." )
             @GetMapping("/myid")
             public ApiResponse<MyIdResponse> myId() throws ParseException {
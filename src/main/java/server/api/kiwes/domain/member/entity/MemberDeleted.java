@@ -8,10 +8,13 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 import static javax.persistence.GenerationType.IDENTITY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_member_deleted_created_date", columnList = "created_date"))   // 보관 정책 삭제
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -1,11 +1,13 @@
 package server.api.kiwes.domain.member.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import server.api.kiwes.domain.member.entity.Member;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
 
@@ -23,4 +25,11 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     Optional<Member> findByEmail(String email);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.checked = :checked where m.id = :memberId")
+    void updateChecked(@Param("memberId") Long memberId, @Param("checked") LocalDateTime checked);
+
+    @Query("select m.checked from Member m where m.id = :memberId")
+    LocalDateTime findCheckedById(@Param("memberId") Long memberId);
 }
@@ -1,39 +1,152 @@
 package server.api.kiwes.domain.member.repository;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
-import server.api.kiwes.global.jwt.entity.RefreshToken;
+import server.api.kiwes.global.util.Hashes;
 
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 리프레시 토큰 저장소.
+ * 회원별 Redis 해시 kiwes:refresh:{memberId} 에 기기(세션)마다 필드 하나를 두고,
+ * 토큰 원문 대신 SHA-256 해시를 "hash|previousHash|rotatedAt|expiresAt" 형태로 저장한다.
+ * 재발급은 Lua 스크립트로 비교와 교체를 한번에 수행해서 동시에 같은 토큰으로 재발급해도 한쪽만 성공한다.
+ */
 @Repository
 public class RefreshTokenRepository {
+    private static final String KEY_PREFIX = "kiwes:refresh:";
+    private static final String NONE = "-";
 
-    private RedisTemplate redisTemplate;
+    /**
+     * KEYS[1] 회원 키, ARGV[1] 세션 id, ARGV[2] 제출된 토큰 해시, ARGV[3] 새 토큰 해시,
+     * ARGV[4] 현재 시각, ARGV[5] 동시 재발급 허용 시간, ARGV[6] 새 토큰 만료 시각, ARGV[7] 키 TTL (ms)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not current then return 0 end " +
+            "local hash, previous, rotatedAt = string.match(current, '^([^|]+)|([^|]+)|([^|]+)|') " +
+            "if hash == ARGV[2] then " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. hash .. '|' .. ARGV[4] .. '|' .. ARGV[6]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[7]) " +
+            "  return 1 " +
+            "end " +
+            "if previous == ARGV[2] and tonumber(ARGV[4]) - tonumber(rotatedAt) <= tonumber(ARGV[5]) then return -2 end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return -1",
+            Long.class);
 
-    @Value("${jwt.refresh-token-validity-in-seconds}")
-    private long refreshTokenValidityTime;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long refreshTokenValidityMillis;
+    private final int maxSessions;
+    private final long concurrentRefreshGraceMillis;
 
-    public RefreshTokenRepository(final RedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public RefreshTokenRepository(StringRedisTemplate stringRedisTemplate,
+                                  @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityTime,
+                                  @Value("${jwt.refresh-token-max-sessions:5}") int maxSessions,
+                                  @Value("${jwt.refresh-token-grace-ms:10000}") long concurrentRefreshGraceMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.refreshTokenValidityMillis = refreshTokenValidityTime * 1000;
+        this.maxSessions = maxSessions;
+        this.concurrentRefreshGraceMillis = concurrentRefreshGraceMillis;
     }
 
-    public void save(String refreshToken, Long userId) {
-        System.out.println("save");
-        //동일한 key 값으로 저장하면 value값 updat됨
-        redisTemplate.opsForValue().set(String.valueOf(userId), refreshToken, refreshTokenValidityTime, TimeUnit.SECONDS);
+    public enum RotateResult {
+        ROTATED,    // 재발급 성공
+        NOT_FOUND,  // 로그아웃/탈퇴/만료로 세션이 없음
+        CONFLICT,   // 같은 토큰으로 방금 다른 요청이 재발급함
+        REUSED      // 이미 교체된 토큰을 다시 제출함. 세션을 폐기했다.
     }
 
-    public void deleteById(Long userId){
-        redisTemplate.delete(String.valueOf(userId));
+    /**
+     * 새 세션 저장. 만료된 세션과 최대 기기 수를 넘는 오래된 세션을 함께 정리한다.
+     */
+    public void save(Long memberId, String sessionId, String refreshToken) {
+        String key = key(memberId);
+        long now = System.currentTimeMillis();
+        long expiresAt = now + refreshTokenValidityMillis;
+
+        List<String> pruned = findPrunableSessions(key, now);
+        String value = Hashes.sha256(refreshToken) + "|" + NONE + "|0|" + expiresAt;
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                if (!pruned.isEmpty()) redis.opsForHash().delete(key, pruned.toArray());
+                redis.opsForHash().put(key, sessionId, value);
+                redis.expire(key, refreshTokenValidityMillis, TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 제출된 토큰이 세션의 현재 토큰일 때만 새 토큰으로 교체한다.
+     */
+    public RotateResult rotate(Long memberId, String sessionId, String presentedToken, String newToken) {
+        long now = System.currentTimeMillis();
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(key(memberId)),
+                sessionId, Hashes.sha256(presentedToken), Hashes.sha256(newToken), String.valueOf(now),
+                String.valueOf(concurrentRefreshGraceMillis), String.valueOf(now + refreshTokenValidityMillis),
+                String.valueOf(refreshTokenValidityMillis));
+
+        if (result == null || result == 0) return RotateResult.NOT_FOUND;
+        if (result == 1) return RotateResult.ROTATED;
+        if (result == -2) return RotateResult.CONFLICT;
+        return RotateResult.REUSED;
+    }
+
+    /**
+     * 로그아웃 - 한 기기의 세션만 폐기
+     */
+    public void delete(Long memberId, String sessionId) {
+        stringRedisTemplate.opsForHash().delete(key(memberId), sessionId);
+    }
+
+    /**
+     * 탈퇴 - 모든 기기의 세션 폐기
+     */
+    public void deleteAll(Long memberId) {
+        stringRedisTemplate.delete(key(memberId));
+    }
+
+    private List<String> findPrunableSessions(String key, long now) {
+        Map<Object, Object> sessions = stringRedisTemplate.opsForHash().entries(key);
+        if (sessions.isEmpty()) return Collections.emptyList();
+
+        List<String> pruned = new ArrayList<>();
+        List<Map.Entry<String, Long>> alive = new ArrayList<>();
+        sessions.forEach((field, value) -> {
+            long expiresAt = parseExpiresAt((String) value);
+            if (expiresAt <= now) pruned.add((String) field);
+            else alive.add(Map.entry((String) field, expiresAt));
+        });
+
+        // 새 세션이 들어갈 자리를 남기고 만료가 가까운(= 오래된) 세션부터 정리
+        alive.sort(Map.Entry.comparingByValue());
+        for (int i = 0; i <= alive.size() - maxSessions; i++) {
+            pruned.add(alive.get(i).getKey());
+        }
+        return pruned;
+    }
+
+    private long parseExpiresAt(String value) {
+        try {
+            return Long.parseLong(value.substring(value.lastIndexOf('|') + 1));
+        } catch (RuntimeException e) {
+            return 0;
+        }
     }
 
-    public Optional<String> findById(final Long userId) {
-        String refreshToken=(String)redisTemplate.opsForValue().get(String.valueOf(userId));
-        return Optional.ofNullable(refreshToken);
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
     }
 }
@@ -10,7 +10,9 @@ import server.api.kiwes.domain.member.dto.NickNameRequest;
 import server.api.kiwes.domain.member.dto.MyIdResponse;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.repository.MemberRepository;
-import server.api.kiwes.global.security.util.SecurityUtils;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
+import server.api.kiwes.global.security.principal.CurrentMemberProvider;
+import server.api.kiwes.global.security.principal.PrincipalCache;
 import server.api.kiwes.response.BizException;
 
 import javax.transaction.Transactional;
@@ -27,14 +29,15 @@ import java.util.UUID;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
+    private final CurrentMemberProvider currentMemberProvider;
 
     /**
-     * 로그인된 Member 객체를 리턴하는 함수
+     * 로그인된 Member 객체를 리턴하는 함수. 같은 요청 안에서는 한번만 조회한다.
      * @return Member
      */
     public Member getLoggedInMember(){
-        return memberRepository.findById(SecurityUtils.getLoggedInUser().getId())
-                .orElseThrow(()-> new BizException(MemberResponseType.NOT_LOGGED_IN_USER));
+        return currentMemberProvider.get();
     }
 
     public Member findById(Long id){
@@ -46,17 +49,16 @@ public class MemberService {
      * 마이페이지-프로필 이미지 변경 (presigned URL)
      */
     public String changeProfileImg() {
-        Long memberId = SecurityUtils.getLoggedInUser().getId();
-        Member member = memberRepository.findById(memberId).orElseThrow();
+        Member member = getLoggedInMember();
         member.setProfileImg(String.valueOf(UUID.randomUUID()));
         memberRepository.save(member);
+        principalCache.evict(member.getEmail());
 
         return member.getProfileImg();
     }
 
     public String getPreProfileImg() {
-        Long memberId = SecurityUtils.getLoggedInUser().getId();
-        Member member = memberRepository.findById(memberId).orElseThrow();
+        Member member = getLoggedInMember();
         return member.getProfileImg();
     }
     /**
@@ -75,8 +77,7 @@ public class MemberService {
      * 자기소개 update
      */
     public String updateIntroduction(String introduction) {
-        Long memberId = SecurityUtils.getLoggedInUser().getId();
-        Member member = memberRepository.findById(memberId).orElseThrow();
+        Member member = getLoggedInMember();
         member.setIntroduction(introduction);
         memberRepository.save(member);
 
@@ -103,13 +104,11 @@ public class MemberService {
             }
         }
         //프로필 사진, 닉네임, 국적, 나이, 성별, 소개
-        return new MyPageResponse(member.getId(),"https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                member.getProfileImg()+".jpg", member.getNickname(), member.getNationality().getName(), age, member.getGender().getName(), member.getIntroduction());
+        return new MyPageResponse(member.getId(),MediaUrlBuilder.profileImage(member.getProfileImg()), member.getNickname(), member.getNationality().getName(), age, member.getGender().getName(), member.getIntroduction());
 
     }
     public MyIdResponse myId() throws ParseException {
-        Long memberId = SecurityUtils.getLoggedInUser().getId();
-        Member member = memberRepository.findById(memberId).orElseThrow();
+        Member member = getLoggedInMember();
 
         return MyIdResponse.builder()
                 .id(member.getId())
@@ -120,6 +119,8 @@ public class MemberService {
     }
 
     public void setDefalutProfile(Long id) {
-        memberRepository.findById(id).get().setProfileImg("profile");
+        Member member = memberRepository.findById(id).get();
+        member.setProfileImg("profile");
+        principalCache.evict(member.getEmail());
     }
 }
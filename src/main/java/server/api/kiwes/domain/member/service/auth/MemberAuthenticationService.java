@@ -3,9 +3,12 @@ package server.api.kiwes.domain.member.service.auth;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -32,14 +35,13 @@ import server.api.kiwes.domain.member.service.validate.MemberValidationService;
 import server.api.kiwes.domain.member_language.entity.MemberLanguage;
 import server.api.kiwes.domain.member_language.repository.MemberLanguageRepository;
 import server.api.kiwes.global.entity.Gender;
+import server.api.kiwes.global.http.OutboundHttpClient;
+import server.api.kiwes.global.http.constant.OutboundProvider;
 import server.api.kiwes.global.jwt.TokenProvider;
+import server.api.kiwes.global.security.principal.PrincipalCache;
 import server.api.kiwes.global.security.util.SecurityUtils;
 import server.api.kiwes.response.BizException;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +49,7 @@ import java.util.Map;
 
 import static server.api.kiwes.domain.member.constant.MemberResponseType.*;
 import static server.api.kiwes.domain.member.constant.MemberServiceMessage.*;
+import static server.api.kiwes.domain.member.constant.Role.ROLE_ADMIN;
 import static server.api.kiwes.domain.member.constant.Role.ROLE_USER;
 
 @Service
@@ -66,11 +69,15 @@ public class MemberAuthenticationService {
 
     private final MemberValidationService validateService;
     private final TokenProvider tokenProvider;
+    private final PrincipalCache principalCache;
+    private final OutboundHttpClient outboundHttpClient;
 
     @Value("${spring.security.oauth2.client.provider.kakao.token-uri}")
     private String KAKAO_TOKEN_URL;
     @Value("${spring.security.oauth2.client.provider.google.token-uri}")
     private String GOOGLE_TOKEN_URL;
+    @Value("${kiwes.security.admin-emails:}")
+    private List<String> adminEmails;   // 운영 API (보관 정책, 색인 재생성, 외부 연동 통계) 를 쓸 수 있는 계정
 
     private MemberLoginService loginService;
 
@@ -79,68 +86,29 @@ public class MemberAuthenticationService {
      */
     public String getAccessToken(SocialLoginType socialLoginType, String code) {
         loginService = findSocialOauthByType(socialLoginType);
-        String access_Token="";
-        String refresh_Token ="";
-        String reqURL = null;
-        String refreshTokenName="refresh_token";
-        try{
+        String reqURL;
+        OutboundProvider provider;
         switch (socialLoginType){
             case kakao:
                 reqURL = KAKAO_TOKEN_URL;
+                provider = OutboundProvider.KAKAO;
                 break;
             case google:
                 reqURL = GOOGLE_TOKEN_URL;
-                refreshTokenName ="id_token";
+                provider = OutboundProvider.GOOGLE;
                 break;
             default:
-                break;
+                throw new BizException(CONNECT_ERROR);
         }
 
-            URL url = new URL(reqURL);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-            //POST 요청을 위해 기본값이 false인 setDoOutput을 true로
-            conn.setRequestMethod("POST");
-            conn.setDoOutput(true);
-
-            //POST 요청에 필요로 요구하는 파라미터 스트림을 통해 전송
-            BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(conn.getOutputStream()));
-            bw.write(loginService.getOauthRedirectURL(code));
-            bw.flush();
-
-            //결과 코드가 200이라면 성공
-            int responseCode = conn.getResponseCode();
-            System.out.println("responseCode : " + responseCode);
-            //요청을 통해 얻은 JSON타입의 Response 메세지 읽어오기
-            BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            String line = "";
-            String result = "";
-
-            while ((line = br.readLine()) != null) {
-                result += line;
-            }
-            System.out.println("response body : " + result);
-
-            //Gson 라이브러리에 포함된 클래스로 JSON파싱 객체 생성
-            JsonParser parser = new JsonParser();
-            JsonElement element = parser.parse(result);
-
-            access_Token = element.getAsJsonObject().get("access_token").getAsString();
-            System.out.println("access_token : " + access_Token);
-            refresh_Token = element.getAsJsonObject().get(refreshTokenName).getAsString();
-
-            System.out.println("access_token : " + access_Token);
-            System.out.println("refresh_token : " + refresh_Token);
-
-            br.close();
-            bw.close();
-        }catch (IOException e) {
-            e.printStackTrace();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        //POST 요청에 필요로 요구하는 파라미터를 form 으로 전송
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        String result = outboundHttpClient.post(provider, reqURL, headers, loginService.getOauthRedirectURL(code));
 
-        return access_Token;
+        //Gson 라이브러리에 포함된 클래스로 JSON파싱 객체 생성
+        JsonElement element = JsonParser.parseString(result);
+        return element.getAsJsonObject().get("access_token").getAsString();
     }
 
     public LoginResponse login(SocialLoginType socialLoginType, String token) {
@@ -167,7 +135,7 @@ public class MemberAuthenticationService {
         boolean isSignedUp = member.getEmail() != null;
 
         //2. 스프링 시큐리티 처리
-        List<GrantedAuthority> authorities = initAuthorities();
+        List<GrantedAuthority> authorities = initAuthorities(member.getEmail());
         OAuth2User userDetails = createOAuth2UserByJson(authorities, memberInfo, loginService.getEmail(memberInfo));
         OAuth2AuthenticationToken auth = configureAuthentication(userDetails, authorities);
 
@@ -197,9 +165,10 @@ public class MemberAuthenticationService {
         //one to many 저장
         member.setLanguages(getMemberLanguageEntities(additionInfoRequest.getLanguages(), member));
         memberRepository.save(member);
+        principalCache.evict(member.getEmail());
 
         //3. 스프링 시큐리티 처리
-        List<GrantedAuthority> authorities = initAuthorities();
+        List<GrantedAuthority> authorities = initAuthorities(member.getEmail());
         OAuth2User userDetails = createOAuth2UserByMember(authorities, member);
         OAuth2AuthenticationToken auth = configureAuthentication(userDetails, authorities);
 
@@ -214,18 +183,17 @@ public class MemberAuthenticationService {
      */
 
     public RefreshTokenResponse refreshToken(RefreshTokenRequest refreshTokenRequest) {
-        Long userId=tokenProvider.getUserId(refreshTokenRequest.getRefreshToken());
-        System.out.println(userId);
-        //1. refreshToken 검증
-        refreshTokenRepository.findById(userId).orElseThrow(() -> new BizException(NOT_FOUND_EMAIL));
+        //1. refreshToken 서명/만료 검증
+        Claims claims = tokenProvider.verifyRefreshToken(refreshTokenRequest.getRefreshToken());
+        Long userId = tokenProvider.getUserId(claims);
         //2. 새로운 accessToken 재발급
         //2.1 시큐리티 설정
         Member member = memberRepository.findById(userId).orElseThrow(() -> new BizException(NOT_FOUND_EMAIL));
-        List<GrantedAuthority> authorities = initAuthorities();
+        List<GrantedAuthority> authorities = initAuthorities(member.getEmail());
         OAuth2User userDetails = createOAuth2UserByMember(authorities, member);
         OAuth2AuthenticationToken auth = configureAuthentication(userDetails, authorities);
-        //2.2 JWT 토큰 생성
-        TokenInfoResponse tokenInfoResponse = tokenProvider.createToken(auth, true, member.getId());
+        //2.2 저장된 refreshToken 과 비교해서 교체 (재사용 감지)
+        TokenInfoResponse tokenInfoResponse = tokenProvider.rotateToken(auth, claims, refreshTokenRequest.getRefreshToken());
         return RefreshTokenResponse.from(tokenInfoResponse);
     }
 
@@ -242,9 +210,15 @@ public class MemberAuthenticationService {
 
     }
 
-    public List<GrantedAuthority> initAuthorities() {
+    /**
+     * 기본 권한은 ROLE_USER. kiwes.security.admin-emails 에 있는 계정이면 ROLE_ADMIN 도 준다.
+     */
+    public List<GrantedAuthority> initAuthorities(String email) {
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(String.valueOf(ROLE_USER)));
+        if (email != null && adminEmails.contains(email)) {
+            authorities.add(new SimpleGrantedAuthority(String.valueOf(ROLE_ADMIN)));
+        }
         return authorities;
     }
 
@@ -310,7 +284,12 @@ public class MemberAuthenticationService {
     public String logout() {
 
         Member user = validateService.validateEmail(SecurityUtils.getLoggedInUser().getEmail());
-        refreshTokenRepository.deleteById(user.getId());
+        String accessToken = getAccessToken();
+        String sessionId = tokenProvider.getSessionId(accessToken);
+        if (sessionId == null) refreshTokenRepository.deleteAll(user.getId());
+        else refreshTokenRepository.delete(user.getId(), sessionId);
+        tokenProvider.evict(accessToken);
+        principalCache.evict(user.getEmail());
         return "hi";
     }
 
@@ -325,16 +304,18 @@ public class MemberAuthenticationService {
 
         user.setIsDeleted();
         memberDeletedRepository.save(MemberDeleted.builder().email(user.getEmail()).build());
+        refreshTokenRepository.deleteAll(user.getId());
+        tokenProvider.evict(getAccessToken());
+        principalCache.evict(user.getEmail());
 
         return clubMember;
     }
-    public void deleteOld() {
-        List<MemberDeleted> allMemberDeleted = memberDeletedRepository.findAll();
-        for ( MemberDeleted MemberDeleted : allMemberDeleted ){
-            if ( MemberDeleted.getCreatedDate().plusDays(30).isBefore(LocalDateTime.now())){
-                memberDeletedRepository.delete(MemberDeleted);
-            }
-        }
+
+    /**
+     * 현재 요청의 access token. JwtFilter 가 인증 객체의 credentials 로 넣어둔다.
+     */
+    private String getAccessToken() {
+        return (String) SecurityContextHolder.getContext().getAuthentication().getCredentials();
     }
 
     private MemberLoginService findSocialOauthByType(SocialLoginType socialLoginType) {
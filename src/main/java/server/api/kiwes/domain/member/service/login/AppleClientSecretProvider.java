@@ -0,0 +1,154 @@
+package server.api.kiwes.domain.member.service.login;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.response.BizException;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Date;
+
+import static server.api.kiwes.domain.member.constant.MemberResponseType.CANT_CREATE_SECRET;
+import static server.api.kiwes.domain.member.constant.MemberResponseType.NOT_FOUND_KEYFILE;
+
+/**
+ * Apple client secret 발급기.
+ * .p8 키는 시작할 때 클래스패스에서 한번 읽어 파싱해두고, 서명한 client secret 은 만료 직전까지 재사용한다.
+ * 만료가 가까워지면 백그라운드에서 미리 다시 서명해서 로그인 요청이 서명을 기다리지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class AppleClientSecretProvider {
+    private static final String APPLE_AUTH_URL = "https://appleid.apple.com";
+    private static final long SECRET_VALIDITY_MILLIS = 60 * 60 * 1000L;       // 1시간
+    private static final long REFRESH_BEFORE_MILLIS = 10 * 60 * 1000L;        // 만료 10분 전부터 재발급
+
+    @Value("${apple.aud}")
+    private String APPLE_CLIENT_ID;
+    @Value("${apple.team-id}")
+    private String APPLE_TEAM_ID;
+    @Value("${apple.key.id}")
+    private String APPLE_LOGIN_KEY;
+    @Value("${apple.key.path}")
+    private String APPLE_KEY_PATH;
+
+    private volatile ECPrivateKey privateKey;
+    private volatile ClientSecret clientSecret;
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (BizException e) {
+            // 키 파일이 없어도 다른 로그인은 동작해야 하므로 기동은 계속하고 Apple 로그인 시점에 다시 시도한다.
+            log.error("apple client secret init failed - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 유효한 client secret. 캐시가 비었거나 만료가 임박한 경우에만 서명한다.
+     */
+    public String getClientSecret() {
+        ClientSecret current = clientSecret;
+        if (current != null && current.expiresAt - REFRESH_BEFORE_MILLIS > System.currentTimeMillis()) {
+            return current.value;
+        }
+        return refresh().value;
+    }
+
+    @Scheduled(fixedDelayString = "${apple.client-secret.refresh-check-ms:60000}")
+    public void refreshIfExpiring() {
+        ClientSecret current = clientSecret;
+        if (current != null && current.expiresAt - REFRESH_BEFORE_MILLIS > System.currentTimeMillis()) return;
+        try {
+            refresh();
+        } catch (BizException e) {
+            log.warn("apple client secret refresh failed - {}", e.getMessage());
+        }
+    }
+
+    private synchronized ClientSecret refresh() {
+        ClientSecret current = clientSecret;
+        long now = System.currentTimeMillis();
+        if (current != null && current.expiresAt - REFRESH_BEFORE_MILLIS > now) return current;
+
+        ClientSecret signed = new ClientSecret(sign(now), now + SECRET_VALIDITY_MILLIS);
+        clientSecret = signed;
+        return signed;
+    }
+
+    private String sign(long now) {
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(APPLE_LOGIN_KEY).build();
+        JWTClaimsSet claimsSet = new JWTClaimsSet();
+        claimsSet.setIssuer(APPLE_TEAM_ID);
+        claimsSet.setIssueTime(new Date(now));
+        claimsSet.setExpirationTime(new Date(now + SECRET_VALIDITY_MILLIS));
+        claimsSet.setAudience(APPLE_AUTH_URL);
+        claimsSet.setSubject(APPLE_CLIENT_ID);
+
+        SignedJWT jwt = new SignedJWT(header, claimsSet);
+        try {
+            jwt.sign(new ECDSASigner(getPrivateKey().getS()));
+        } catch (JOSEException e) {
+            log.info(CANT_CREATE_SECRET.getMessage());
+            throw new BizException(CANT_CREATE_SECRET);
+        }
+        return jwt.serialize();
+    }
+
+    private ECPrivateKey getPrivateKey() {
+        ECPrivateKey key = privateKey;
+        if (key == null) {
+            key = loadPrivateKey();
+            privateKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * 클래스패스의 .p8 을 임시 파일 없이 스트림으로 바로 읽는다.
+     */
+    private ECPrivateKey loadPrivateKey() {
+        InputStream input = getClass().getResourceAsStream(APPLE_KEY_PATH);
+        if (input == null) throw new BizException(NOT_FOUND_KEYFILE);
+
+        try (PemReader pemReader = new PemReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            PemObject pemObject = pemReader.readPemObject();
+            if (pemObject == null) throw new BizException(NOT_FOUND_KEYFILE);
+            return (ECPrivateKey) KeyFactory.getInstance("EC")
+                    .generatePrivate(new PKCS8EncodedKeySpec(pemObject.getContent()));
+        } catch (IOException e) {
+            throw new BizException(NOT_FOUND_KEYFILE);
+        } catch (GeneralSecurityException | ClassCastException e) {
+            log.info(CANT_CREATE_SECRET.getMessage());
+            throw new BizException(CANT_CREATE_SECRET);
+        }
+    }
+
+    private static class ClientSecret {
+        private final String value;
+        private final long expiresAt;
+
+        private ClientSecret(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -5,15 +5,13 @@ import com.google.gson.JsonParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import server.api.kiwes.global.http.OutboundHttpClient;
+import server.api.kiwes.global.http.constant.OutboundProvider;
 import server.api.kiwes.response.BizException;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
-
-import static server.api.kiwes.domain.member.constant.MemberResponseType.CONNECT_ERROR;
 import static server.api.kiwes.domain.member.constant.MemberResponseType.NOT_FOUND_EMAIL;
 
 
@@ -22,6 +20,8 @@ import static server.api.kiwes.domain.member.constant.MemberResponseType.NOT_FOU
 @RequiredArgsConstructor
 @Slf4j
 public class MemberGoogleService implements MemberLoginService{
+    private final OutboundHttpClient outboundHttpClient;
+
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String GOOGLE_SNS_CLIENT_ID;
     @Value("${spring.security.oauth2.client.registration.google.client-secret}")
@@ -45,31 +45,9 @@ public class MemberGoogleService implements MemberLoginService{
 
     @Override
     public JsonObject connect(String reqURL, String token) {
-        try {
-            System.out.println(reqURL);
-            System.out.println(token);
-            URL url = new URL(reqURL);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Authorization", "Bearer " + token);
-
-            int responseCode = conn.getResponseCode();
-            System.out.println("responseCode : " + responseCode);
-
-            BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            StringBuffer response = new StringBuffer();
-            String inputLine;
-            while ((inputLine = in.readLine()) != null) {
-                response.append(inputLine);
-            }
-            in.close();
-            JsonObject json = JsonParser.parseString(response.toString()).getAsJsonObject();
-            return json;
-        } catch (IOException e) {
-            log.info(CONNECT_ERROR.getMessage());
-            throw new BizException(CONNECT_ERROR);
-        }
-
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return JsonParser.parseString(outboundHttpClient.get(OutboundProvider.GOOGLE, reqURL, headers)).getAsJsonObject();
     }
 
     /**
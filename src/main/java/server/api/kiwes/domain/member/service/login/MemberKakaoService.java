@@ -5,15 +5,13 @@ import com.google.gson.JsonParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import server.api.kiwes.global.http.OutboundHttpClient;
+import server.api.kiwes.global.http.constant.OutboundProvider;
 import server.api.kiwes.response.BizException;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
-
-import static server.api.kiwes.domain.member.constant.MemberResponseType.CONNECT_ERROR;
 import static server.api.kiwes.domain.member.constant.MemberResponseType.NOT_FOUND_EMAIL;
 import static server.api.kiwes.domain.member.constant.MemberServiceMessage.KAKAO_ACOUNT;
 
@@ -22,6 +20,8 @@ import static server.api.kiwes.domain.member.constant.MemberServiceMessage.KAKAO
 @RequiredArgsConstructor
 @Slf4j
 public class MemberKakaoService implements MemberLoginService{
+    private final OutboundHttpClient outboundHttpClient;
+
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String KAKAO_SNS_CLIENT_ID;
     @Value("${spring.security.oauth2.client.registration.kakao.client-secret}")
@@ -45,32 +45,9 @@ public class MemberKakaoService implements MemberLoginService{
      * 카카오 연결
      */
     public JsonObject connect(String reqURL, String token) {
-        try {
-            URL url = new URL(reqURL);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Authorization", "Bearer " + token); //전송할 header 작성, access_token전송
-
-            int responseCode = conn.getResponseCode();
-            System.out.println("responseCode : " + responseCode);
-
-            BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            String inputLine;
-
-            StringBuffer response = new StringBuffer();
-            while ((inputLine = in.readLine()) != null) {
-                response.append(inputLine);
-            }
-
-            in.close();
-            JsonObject json = JsonParser.parseString(response.toString()).getAsJsonObject();
-            return json;
-        } catch (IOException e) {
-            log.info(CONNECT_ERROR.getMessage());
-            throw new BizException(CONNECT_ERROR);
-        }
-
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token); //전송할 header 작성, access_token전송
+        return JsonParser.parseString(outboundHttpClient.post(OutboundProvider.KAKAO, reqURL, headers, null)).getAsJsonObject();
     }
 
     /**
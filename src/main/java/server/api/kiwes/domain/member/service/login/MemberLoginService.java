@@ -12,7 +12,7 @@ import java.io.IOException;
 @Transactional
 public interface MemberLoginService {
 
-    String getOauthRedirectURL(String code) throws Exception;
+    String getOauthRedirectURL(String code);
 
     JsonObject connect(String reqURL, String token);
 
@@ -5,6 +5,7 @@ import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.qna.constant.QnaAnsweredStatus;
 import server.api.kiwes.domain.qna.constant.QnaDeletedStatus;
 import server.api.kiwes.domain.qna.entity.Qna;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 @Getter
 @Setter
@@ -40,8 +41,7 @@ public class QnaDetailDto {
             return QnaDetailDto.builder()
                     .qnaId(qna.getId())
                     .questionerId(qna.getQuestioner().getId())
-                    .questionerProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                            qna.getQuestioner().getProfileImg()+".jpg")
+                    .questionerProfileImg(MediaUrlBuilder.profileImage(qna.getQuestioner().getProfileImg()))
                     .questionerNickname(qna.getQuestioner().getNickname())
                     .questionContent(qna.getQuestionContent())
                     .qDate(qna.getQDate())
@@ -55,15 +55,13 @@ public class QnaDetailDto {
         return QnaDetailDto.builder()
                 .qnaId(qna.getId())
                 .questionerId(qna.getQuestioner().getId())
-                .questionerProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        qna.getQuestioner().getProfileImg()+".jpg")
+                .questionerProfileImg(MediaUrlBuilder.profileImage(qna.getQuestioner().getProfileImg()))
                 .questionerNickname(qna.getQuestioner().getNickname())
                 .questionContent(qna.getQuestionContent())
                 .qDate(qna.getQDate())
                 .isDeleted(qna.getIsDeleted())
                 .isAuthorOfQuestion(qna.getQuestioner().getId().equals(member.getId()))
-                .respondentProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        qna.getRespondent().getProfileImg()+".jpg")
+                .respondentProfileImg(MediaUrlBuilder.profileImage(qna.getRespondent().getProfileImg()))
                 .respondentNickname(qna.getRespondent().getNickname())
                 .answerContent(qna.getAnswerContent())
                 .isAnswered(qna.getIsAnswered())
@@ -1,7 +1,19 @@
 package server.api.kiwes.domain.qna.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.api.kiwes.domain.club.dto.ClubArticleQnaInterface;
 import server.api.kiwes.domain.qna.entity.Qna;
 
+import java.util.List;
+
 public interface QnaRepository extends JpaRepository<Qna, Long> {
+
+    @Query(nativeQuery = true,
+            value = "select q.qna_id, m.member_id as questioner_id, m.profile_img, m.nickname, q.question_content, q.q_date " +
+                    "from qna q inner join member m on m.member_id = q.questioner_id " +
+                    "where q.club_id = :clubId and q.is_deleted = 'NO' " +
+                    "order by q.qna_id asc limit :size")
+    List<ClubArticleQnaInterface> findClubArticleQnas(@Param("clubId") Long clubId, @Param("size") int size);
 }
@@ -1,6 +1,7 @@
 package server.api.kiwes.domain.qna.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.api.kiwes.domain.club.entity.Club;
@@ -16,6 +17,9 @@ import server.api.kiwes.domain.qna.entity.Qna;
 import server.api.kiwes.domain.qna.repository.QnaRepository;
 import server.api.kiwes.domain.review.dto.ReviewRegisterDto;
 import server.api.kiwes.domain.review.entity.Review;
+import server.api.kiwes.domain.translate.constant.TranslationEntityType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+import server.api.kiwes.domain.translate.event.TranslationEvent;
 import server.api.kiwes.response.BizException;
 
 import java.time.LocalDateTime;
@@ -29,6 +33,7 @@ import java.util.stream.Collectors;
 public class QnaService {
     private final QnaRepository qnaRepository;
     private final ClubMemberService clubMemberService;
+    private final ApplicationEventPublisher eventPublisher;
     /**
      * qnaID를 통해 QnA 객체 반환
      */
@@ -41,12 +46,13 @@ public class QnaService {
      * qna에 문의 등록
      */
     public void postQuestion(Club club, Member member, QnaRequestDto requestDto) {
-        qnaRepository.save(Qna.builder()
+        Qna qna = qnaRepository.save(Qna.builder()
                 .questionContent(requestDto.getContent())
                 .questioner(member)
                 .club(club)
                 .qDate(getDateTime())
                 .build());
+        publishTranslation(qna, club.getId(), TranslationField.QUESTION, qna.getQuestionContent());
     }
 
     /**
@@ -76,10 +82,18 @@ public class QnaService {
         qna.setADate(getDateTime());
         qna.setRespondent(member);
         qna.setIsAnswered(QnaAnsweredStatus.YES);
-
     }
     public void modifyQna(Qna review, ReviewRegisterDto registerDto) {
         review.modifyQuestion(registerDto.getContent(), getDateTime());
+        publishTranslation(review, review.getClub().getId(), TranslationField.QUESTION, review.getQuestionContent());
+    }
+
+    /**
+     * 질문을 모임 언어들로 미리 번역. 답변은 번역본을 보여주는 화면이 없어 번역하지 않는다.
+     */
+    private void publishTranslation(Qna qna, Long clubId, TranslationField field, String text) {
+        eventPublisher.publishEvent(TranslationEvent.of(TranslationEntityType.QNA, qna.getId(), clubId)
+                .field(field, text));
     }
 
     /**
@@ -3,6 +3,7 @@ package server.api.kiwes.domain.review.dto;
 import lombok.*;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.review.entity.Review;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 @Getter
 @Setter
@@ -37,8 +38,7 @@ public class ReviewDetailDto {
             return ReviewDetailDto.builder()
                     .reviewId(review.getId())
                     .reviewerId(review.getReviewer().getId())
-                    .reviewerProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                            review.getReviewer().getProfileImg()+".jpg")
+                    .reviewerProfileImg(MediaUrlBuilder.profileImage(review.getReviewer().getProfileImg()))
                     .reviewerNickname(review.getReviewer().getNickname())
                     .reviewContent(review.getReviewContent())
                     .reviewDate(review.getReviewDate())
@@ -50,15 +50,13 @@ public class ReviewDetailDto {
         return ReviewDetailDto.builder()
                 .reviewId(review.getId())
                 .reviewerId(review.getReviewer().getId())
-                .reviewerProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        review.getReviewer().getProfileImg()+".jpg")
+                .reviewerProfileImg(MediaUrlBuilder.profileImage(review.getReviewer().getProfileImg()))
                 .reviewerNickname(review.getReviewer().getNickname())
                 .reviewContent(review.getReviewContent())
                 .reviewDate(review.getReviewDate())
                 .isAuthorOfReview(review.getReviewer().getId().equals(member.getId()))
                 .respondentId(review.getRespondent().getId())
-                .respondentProfileImg("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/profileimg/"+
-                        review.getRespondent().getProfileImg()+".jpg")
+                .respondentProfileImg(MediaUrlBuilder.profileImage(review.getRespondent().getProfileImg()))
                 .respondentNickname(review.getRespondent().getNickname())
                 .replyContent(review.getReplyContent())
                 .replyDate(review.getReplyDate())
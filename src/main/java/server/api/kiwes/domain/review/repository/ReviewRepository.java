@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import server.api.kiwes.domain.club.dto.ClubApprovalWaitingSimpleInterface;
+import server.api.kiwes.domain.club.dto.ClubArticleReviewInterface;
 import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.review.dto.ReviewMineSimpleInterface;
@@ -22,6 +23,17 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     List<Review> findByClub(Club club);
 
+    @Query(nativeQuery = true,
+            value = "select r.review_id, r.review_content, r.modified_date, r.reply_content, r.reply_date, r.is_modified, " +
+                    "rv.member_id as reviewer_id, rv.profile_img as reviewer_profile_img, rv.nickname as reviewer_nickname, " +
+                    "rp.member_id as respondent_id, rp.profile_img as respondent_profile_img, rp.nickname as respondent_nickname " +
+                    "from review r " +
+                    "inner join member rv on rv.member_id = r.reviewer_id " +
+                    "left join member rp on rp.member_id = r.respondent_id " +
+                    "where r.club_id = :clubId " +
+                    "order by r.review_id asc limit :size")
+    List<ClubArticleReviewInterface> findClubArticleReviews(@Param("clubId") Long clubId, @Param("size") int size);
+
     @Query(nativeQuery = true,
             value = "select r.review_id,r.review_content,r.review_date, c.club_id, c.title " +
                     "from review r " +
@@ -1,6 +1,7 @@
 package server.api.kiwes.domain.review.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.api.kiwes.domain.club.dto.ClubApprovalWaitingSimpleDto;
@@ -12,6 +13,9 @@ import server.api.kiwes.domain.review.constant.ReviewResponseType;
 import server.api.kiwes.domain.review.dto.*;
 import server.api.kiwes.domain.review.entity.Review;
 import server.api.kiwes.domain.review.repository.ReviewRepository;
+import server.api.kiwes.domain.translate.constant.TranslationEntityType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+import server.api.kiwes.domain.translate.event.TranslationEvent;
 import server.api.kiwes.response.BizException;
 
 import java.time.LocalDateTime;
@@ -27,6 +31,7 @@ import java.util.stream.Collectors;
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ClubMemberService clubMemberService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * id로 Review 객체 찾아 반환
@@ -44,12 +49,13 @@ public class ReviewService {
             throw new BizException(ReviewResponseType.ALREADY_POSTED);
         }
 
-        reviewRepository.save(Review.builder()
+        Review review = reviewRepository.save(Review.builder()
                 .club(club)
                 .reviewer(member)
                 .reviewContent(registerDto.getContent())
                 .reviewDate(getDateTime())
                 .build());
+        publishTranslation(review, TranslationField.CONTENT, review.getReviewContent());
     }
 
 
@@ -58,6 +64,7 @@ public class ReviewService {
      */
     public void modifyReview(Review review, ReviewRegisterDto registerDto) {
         review.modifyReview(registerDto.getContent(), getDateTime());
+        publishTranslation(review, TranslationField.CONTENT, review.getReviewContent());
     }
 
     /**
@@ -94,6 +101,15 @@ public class ReviewService {
      */
     public void postReply(Member member, Review review, ReviewRegisterDto registerDto){
         review.setReply(member, registerDto.getContent(), getDateTime());
+        publishTranslation(review, TranslationField.REPLY, review.getReplyContent());
+    }
+
+    /**
+     * 후기/답글을 모임 언어들로 미리 번역
+     */
+    private void publishTranslation(Review review, TranslationField field, String text) {
+        eventPublisher.publishEvent(TranslationEvent.of(TranslationEntityType.REVIEW, review.getId(), review.getClub().getId())
+                .field(field, text));
     }
 
     /**
@@ -10,6 +10,7 @@ import server.api.kiwes.response.BaseResponseType;
 public enum SearchResponseType implements BaseResponseType {
     SEARCH_SUCCESS(21301, "검색 결과 응답 성공", HttpStatus.OK),
     POPULAR_SEARCH_KEYWORD(21302, "인기 검색어 응답 성공", HttpStatus.OK),
+    INDEX_REBUILT(21303, "검색 색인 재생성 성공", HttpStatus.OK),
 
     NO_RESULT(41301, "검색 결과가 없습니다.", HttpStatus.OK),
     ;
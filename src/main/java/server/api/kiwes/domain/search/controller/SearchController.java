@@ -4,7 +4,9 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,6 +28,8 @@ public class SearchController {
 
     @ApiOperation(value = "검색",notes = "호스트만 달 수 있다." +
             "입력시 키워드 아무거나 가능" +
+            "\n검색어의 모든 단어를 포함하는 모임을 찾는다. 한글은 부분 일치, 영문/숫자는 단어의 앞부분 일치" +
+            " (\"java\" 로 \"javascript\" 는 찾지만 \"script\" 로는 찾지 못한다)" +
             "\n예시 출력 데이터" +
             "{\n" +
             "  \"status\": 21301,\n" +
@@ -68,4 +72,20 @@ public class SearchController {
     public ApiResponse<List<String>> getPopularSearchKeyword(){
         return ApiResponse.of(SearchResponseType.POPULAR_SEARCH_KEYWORD, searchService.getPopularSearchKeyword());
     }
+
+    @ApiOperation(value = "검색 색인 재생성", notes = "관리자 전용. DB 의 모든 모임으로 검색 색인을 다시 만든다." +
+            "\n예시 출력 데이터" +
+            "{\n" +
+            "  \"status\": 21303,\n" +
+            "  \"message\": \"검색 색인 재생성 성공\",\n" +
+            "  \"data\": Integer (색인된 모임 수)\n" +
+            "}")
+    @ApiResponses({
+            @io.swagger.annotations.ApiResponse(code = 21303, message = "검색 색인 재생성 성공"),
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/search/index/rebuild")
+    public ApiResponse<Integer> rebuildSearchIndex(){
+        return ApiResponse.of(SearchResponseType.INDEX_REBUILT, searchService.rebuildIndex());
+    }
 }
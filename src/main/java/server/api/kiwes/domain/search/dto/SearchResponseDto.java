@@ -8,6 +8,7 @@ import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.heart.constant.HeartStatus;
 import server.api.kiwes.domain.heart.entity.Heart;
 import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.aws.MediaUrlBuilder;
 
 import java.util.List;
 import java.util.Objects;
@@ -42,8 +43,7 @@ public class SearchResponseDto {
 
         return SearchResponseDto.builder()
                 .clubId(club.getId())
-                .thumbnailImage("https://kiwes2-bucket.s3.ap-northeast-2.amazonaws.com/clubThumbnail/"+
-                        club.getThumbnailUrl()+".jpg")
+                .thumbnailImage(MediaUrlBuilder.clubThumbnail(club.getThumbnailUrl()))
                 .title(club.getTitle())
                 .date(club.getDueTo())
                 .locationKeyword(club.getLocationKeyword())
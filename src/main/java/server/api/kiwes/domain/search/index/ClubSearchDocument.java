@@ -0,0 +1,19 @@
+package server.api.kiwes.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * 색인된 모임 한 건. 검색 결과 정렬에 필요한 최소한의 정보만 들고 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class ClubSearchDocument {
+    private final Long clubId;
+    private final BitSet languages;                   // LanguageType ordinal 비트셋, 읽기 전용
+    private final int category;                       // CategoryType ordinal, 없으면 -1
+    private final Map<String, Integer> termWeights;   // 토큰별 가중치 (제목 3, 내용 1)
+}
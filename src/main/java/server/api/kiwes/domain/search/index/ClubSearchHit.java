@@ -0,0 +1,15 @@
+package server.api.kiwes.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ClubSearchHit {
+    private final ClubSearchDocument document;
+    private final int score;
+
+    public Long getClubId() {
+        return document.getClubId();
+    }
+}
@@ -0,0 +1,271 @@
+package server.api.kiwes.domain.search.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import server.api.kiwes.domain.club.dto.ClubCategoryNameDto;
+import server.api.kiwes.domain.club.dto.ClubLanguageNameDto;
+import server.api.kiwes.domain.club.dto.ClubSearchSourceInterface;
+import server.api.kiwes.domain.club.entity.Club;
+import server.api.kiwes.domain.club.repository.ClubRepository;
+import server.api.kiwes.domain.club_category.repository.ClubCategoryRepository;
+import server.api.kiwes.domain.club_language.repository.ClubLanguageRepository;
+import server.api.kiwes.global.util.AfterCommit;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 모임 제목/내용 역색인.
+ * 토큰 -> (모임 id -> 가중치) posting 을 메모리에 들고 있어서 검색 시 LIKE 풀스캔 없이 후보를 찾는다.
+ * 모임 생성/수정/삭제 커밋 후에 갱신되고, 기동 시 (혹은 관리자 요청 시) DB 에서 다시 만든다.
+ * 색인은 인스턴스마다 따로 있으므로, 갱신한 모임 id 를 Redis pub/sub 으로 알려 다른 인스턴스도 그 모임을 DB 에서 다시 읽게 한다.
+ * 다시 만드는 동안 들어온 갱신은 기존 색인에 바로 반영하면서 따로 모아두었다가, 새 색인에 다시 적용한 뒤 교체한다.
+ * 갱신은 짧은 writeLock 만 잡으므로 재색인 중에도 요청 스레드가 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final String UPDATE_CHANNEL = "kiwes:club-search:update";
+
+    private final ClubRepository clubRepository;
+    private final ClubLanguageRepository clubLanguageRepository;
+    private final ClubCategoryRepository clubCategoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+    private volatile Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingDuringRebuild;   // writeLock 안에서만 접근. 재색인 중이 아니면 null
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) ->
+                onUpdate(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    /**
+     * 모임 색인. 트랜잭션 안이라면 커밋된 뒤에 반영한다.
+     * 언어, 카테고리는 지연 로딩이라 문서는 호출 시점(트랜잭션 안)에 만들어 둔다.
+     */
+    public void index(Club club) {
+        BitSet languages = new BitSet();
+        if (club.getLanguages() != null) {
+            club.getLanguages().forEach(clubLanguage -> languages.set(clubLanguage.getLanguage().getName().ordinal()));
+        }
+        int category = club.getCategory() == null ? -1 : club.getCategory().getCategory().getName().ordinal();
+        ClubSearchDocument document = toDocument(club.getId(), club.getTitle(), club.getContent(), languages, category);
+
+        AfterCommit.run(() -> {
+            put(document);
+            publish(document.getClubId());
+        });
+    }
+
+    /**
+     * 모임 색인 제거. 트랜잭션 안이라면 커밋된 뒤에 반영한다.
+     */
+    public void remove(Long clubId) {
+        AfterCommit.run(() -> {
+            delete(clubId);
+            publish(clubId);
+        });
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 모임과 본문 일치 점수를 반환. 순서는 보장하지 않는다. (정렬은 SearchRanker)
+     */
+    public List<ClubSearchHit> search(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>(ClubSearchTokenizer.tokenizeForQuery(keyword));
+        if (tokens.isEmpty()) return List.of();
+
+        Segment current = segment;
+        List<Map<Long, Integer>> postings = new ArrayList<>();
+        for (String token : tokens) {
+            Map<Long, Integer> posting = current.postings.get(token);
+            if (posting == null || posting.isEmpty()) return List.of();
+            postings.add(posting);
+        }
+        // 가장 짧은 posting 을 기준으로 교집합을 구한다.
+        postings.sort(Comparator.comparingInt(Map::size));
+
+        List<ClubSearchHit> hits = new ArrayList<>();
+        for (Map.Entry<Long, Integer> candidate : postings.get(0).entrySet()) {
+            Long clubId = candidate.getKey();
+            int score = candidate.getValue();
+            boolean matched = true;
+            for (int i = 1; i < postings.size() && matched; i++) {
+                Integer weight = postings.get(i).get(clubId);
+                if (weight == null) matched = false;
+                else score += weight;
+            }
+            ClubSearchDocument document = current.documents.get(clubId);
+            if (matched && document != null) {
+                hits.add(new ClubSearchHit(document, score));
+            }
+        }
+        return hits;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 의 모든 모임으로 색인을 새로 만든 뒤 교체한다. 다시 만드는 동안에도 기존 색인으로 검색된다.
+     */
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (writeLock) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+            Segment rebuilt = new Segment();
+            try {
+                long lastId = 0L;
+                while (true) {
+                    long from = lastId;
+                    List<ClubSearchDocument> chunk = transactionTemplate.execute(status -> loadChunk(from, REBUILD_CHUNK_SIZE));
+                    if (chunk == null || chunk.isEmpty()) break;
+
+                    chunk.forEach(rebuilt::put);
+                    lastId = chunk.get(chunk.size() - 1).getClubId();
+                }
+            } catch (RuntimeException e) {
+                synchronized (writeLock) {
+                    pendingDuringRebuild = null;
+                }
+                throw e;
+            }
+
+            int replayed;
+            synchronized (writeLock) {
+                // 읽은 시점보다 나중에 커밋된 변경을 새 색인에 다시 적용한다. (같은 값이면 덮어써도 무방)
+                replayed = pendingDuringRebuild.size();
+                pendingDuringRebuild.forEach(update -> update.accept(rebuilt));
+                pendingDuringRebuild = null;
+                segment = rebuilt;
+            }
+            log.info("club search index rebuilt - {} clubs, {} tokens, {} updates replayed",
+                    rebuilt.documents.size(), rebuilt.postings.size(), replayed);
+            return rebuilt.documents.size();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 갱신된 모임. 커밋된 뒤에 발행되므로 DB 에서 다시 읽어 반영한다. 내가 발행한 것은 이미 반영했다.
+     */
+    private void onUpdate(String message) {
+        int separator = message.lastIndexOf(':');
+        if (message.substring(0, separator).equals(instanceId)) return;
+
+        Long clubId = Long.valueOf(message.substring(separator + 1));
+        try {
+            List<ClubSearchDocument> loaded = transactionTemplate.execute(status -> loadChunk(clubId - 1, 1));
+            if (loaded != null && !loaded.isEmpty() && loaded.get(0).getClubId().equals(clubId)) put(loaded.get(0));
+            else delete(clubId);
+        } catch (RuntimeException e) {
+            log.warn("club search index update failed - club {}, {}", clubId, e.getMessage());
+        }
+    }
+
+    private void publish(Long clubId) {
+        try {
+            stringRedisTemplate.convertAndSend(UPDATE_CHANNEL, instanceId + ":" + clubId);
+        } catch (RuntimeException e) {
+            log.warn("club search index update broadcast failed - club {}, {}", clubId, e.getMessage());
+        }
+    }
+
+    private List<ClubSearchDocument> loadChunk(long lastId, int size) {
+        List<ClubSearchSourceInterface> sources = clubRepository.findSearchSourceByKeyset(lastId, size);
+        if (sources.isEmpty()) return List.of();
+
+        List<Long> clubIds = sources.stream()
+                .map(ClubSearchSourceInterface::getClub_id)
+                .collect(Collectors.toList());
+        Map<Long, BitSet> languages = new HashMap<>();
+        for (ClubLanguageNameDto clubLanguage : clubLanguageRepository.findLanguageNamesByClubIds(clubIds)) {
+            languages.computeIfAbsent(clubLanguage.getClubId(), id -> new BitSet())
+                    .set(clubLanguage.getName().ordinal());
+        }
+        Map<Long, Integer> categories = new HashMap<>();
+        for (ClubCategoryNameDto clubCategory : clubCategoryRepository.findCategoryNamesByClubIds(clubIds)) {
+            categories.put(clubCategory.getClubId(), clubCategory.getName().ordinal());
+        }
+
+        return sources.stream()
+                .map(source -> toDocument(source.getClub_id(), source.getTitle(), source.getContent(),
+                        languages.getOrDefault(source.getClub_id(), new BitSet()),
+                        categories.getOrDefault(source.getClub_id(), -1)))
+                .collect(Collectors.toList());
+    }
+
+    private ClubSearchDocument toDocument(Long clubId, String title, String content,
+                                          BitSet languages, int category) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        ClubSearchTokenizer.tokenizeForIndex(title).forEach(token -> termWeights.merge(token, TITLE_WEIGHT, Integer::sum));
+        ClubSearchTokenizer.tokenizeForIndex(content).forEach(token -> termWeights.merge(token, CONTENT_WEIGHT, Integer::sum));
+        return new ClubSearchDocument(clubId, languages, category, termWeights);
+    }
+
+    private void put(ClubSearchDocument document) {
+        apply(target -> target.put(document));
+    }
+
+    private void delete(Long clubId) {
+        apply(target -> target.delete(clubId));
+    }
+
+    private void apply(Consumer<Segment> update) {
+        synchronized (writeLock) {
+            update.accept(segment);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.add(update);
+        }
+    }
+
+    /**
+     * 색인 한 벌. 쓰기는 writeLock 안에서만, 읽기는 락 없이 한다.
+     */
+    private static class Segment {
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, ClubSearchDocument> documents = new ConcurrentHashMap<>();
+
+        private void put(ClubSearchDocument document) {
+            delete(document.getClubId());
+            document.getTermWeights().forEach((token, weight) ->
+                    postings.computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(document.getClubId(), weight));
+            documents.put(document.getClubId(), document);
+        }
+
+        private void delete(Long clubId) {
+            ClubSearchDocument previous = documents.remove(clubId);
+            if (previous == null) return;
+
+            for (String token : previous.getTermWeights().keySet()) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) continue;
+                posting.remove(clubId);
+                if (posting.isEmpty()) postings.remove(token);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package server.api.kiwes.domain.search.index;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 모임 검색용 토크나이저.
+ * 한글은 음절 unigram + bigram, 영문/숫자는 단어의 접두어(prefix)로 색인해서
+ * 기존 LIKE '%kw%' 와 비슷한 부분 일치를 색인 조회만으로 처리한다.
+ * 단, 영문/숫자는 단어 앞부분만 일치한다. (예: "java" 로 "javascript" 는 찾지만 "script" 로는 찾지 못한다)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClubSearchTokenizer {
+    private static final int MAX_PREFIX_LENGTH = 20;
+
+    /**
+     * 색인할 때 사용하는 토큰. 같은 토큰이 여러 번 나오면 그만큼 반복된다.
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String run : splitRuns(text)) {
+            if (isHangul(run.charAt(0))) {
+                for (int i = 0; i < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 1));
+                    if (i + 1 < run.length()) tokens.add(run.substring(i, i + 2));
+                }
+            } else {
+                for (int length = 1; length <= Math.min(run.length(), MAX_PREFIX_LENGTH); length++) {
+                    tokens.add(run.substring(0, length));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어를 토큰으로 분리. 한글은 bigram(한 글자면 unigram), 영문/숫자는 단어 그대로 (접두어 일치)
+     */
+    public static List<String> tokenizeForQuery(String keyword) {
+        List<String> tokens = new ArrayList<>();
+        for (String run : splitRuns(keyword)) {
+            if (isHangul(run.charAt(0))) {
+                if (run.length() == 1) {
+                    tokens.add(run);
+                    continue;
+                }
+                for (int i = 0; i + 1 < run.length(); i++) {
+                    tokens.add(run.substring(i, i + 2));
+                }
+            } else {
+                tokens.add(run.length() > MAX_PREFIX_LENGTH ? run.substring(0, MAX_PREFIX_LENGTH) : run);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 한글 구간, 영문/숫자 구간으로 나눈다. 그 외 문자는 구분자로 취급
+     */
+    private static List<String> splitRuns(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null) return runs;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        Boolean hangulRun = null;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean hangul = isHangul(c);
+            if (!hangul && !Character.isLetterOrDigit(c)) {
+                flush(runs, run);
+                hangulRun = null;
+                continue;
+            }
+            if (hangulRun != null && hangulRun != hangul) {
+                flush(runs, run);
+            }
+            run.append(c);
+            hangulRun = hangul;
+        }
+        flush(runs, run);
+        return runs;
+    }
+
+    private static void flush(List<String> runs, StringBuilder run) {
+        if (run.length() > 0) {
+            runs.add(run.toString());
+            run.setLength(0);
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
@@ -0,0 +1,45 @@
+package server.api.kiwes.domain.search.rank;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.domain.search.index.ClubSearchHit;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 한 번의 검색 동안 고정되는 값들. 사용자 선호 언어/카테고리는 비트셋으로 한번만 만들어 둔다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchContext {
+    private final BitSet languages;     // 사용자 언어 (LanguageType ordinal)
+    private final BitSet categories;    // 사용자 관심 카테고리 (CategoryType ordinal)
+    private final int maxTextScore;     // 검색 결과 중 가장 높은 본문 일치 점수
+    private final long maxClubId;       // 검색 결과 중 가장 최신 모임 id
+
+    public static SearchContext of(Member member, List<ClubSearchHit> hits) {
+        BitSet languages = new BitSet();
+        member.getLanguages().forEach(memberLanguage -> languages.set(memberLanguage.getLanguage().getName().ordinal()));
+        BitSet categories = new BitSet();
+        member.getCategories().forEach(memberCategory -> categories.set(memberCategory.getCategory().getName().ordinal()));
+
+        int maxTextScore = 1;
+        long maxClubId = 1;
+        for (ClubSearchHit hit : hits) {
+            maxTextScore = Math.max(maxTextScore, hit.getScore());
+            maxClubId = Math.max(maxClubId, hit.getClubId());
+        }
+        return new SearchContext(languages, categories, maxTextScore, maxClubId);
+    }
+
+    public boolean matchesLanguage(BitSet clubLanguages) {
+        return languages.intersects(clubLanguages);
+    }
+
+    public boolean matchesCategory(int category) {
+        return category >= 0 && categories.get(category);
+    }
+}
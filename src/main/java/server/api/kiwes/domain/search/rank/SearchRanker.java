@@ -0,0 +1,56 @@
+package server.api.kiwes.domain.search.rank;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.domain.search.index.ClubSearchHit;
+
+import java.util.*;
+
+/**
+ * 검색 결과를 SearchScorer 점수 순으로 정렬해 요청한 페이지만 잘라준다.
+ * 전체 정렬 대신 (offset + limit) 크기의 최소 힙으로 상위 k 개만 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchRanker {
+    private static final Comparator<Scored> ORDER = Comparator.comparingDouble((Scored scored) -> scored.score)
+            .thenComparing(scored -> scored.hit.getClubId());
+
+    private final SearchScorer searchScorer;
+
+    public List<ClubSearchHit> rank(List<ClubSearchHit> hits, Member member, int offset, int limit) {
+        int k = offset + limit;
+        if (hits.isEmpty() || offset >= hits.size() || k <= 0) return List.of();
+
+        SearchContext context = SearchContext.of(member, hits);
+        PriorityQueue<Scored> heap = new PriorityQueue<>(Math.min(k, hits.size()) + 1, ORDER);
+        for (ClubSearchHit hit : hits) {
+            Scored scored = new Scored(hit, searchScorer.score(hit, context));
+            if (heap.size() < k) {
+                heap.add(scored);
+            } else if (ORDER.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        List<Scored> top = new ArrayList<>(heap);
+        top.sort(ORDER.reversed());
+        List<ClubSearchHit> page = new ArrayList<>();
+        for (int i = offset; i < top.size(); i++) {
+            page.add(top.get(i).hit);
+        }
+        return page;
+    }
+
+    private static class Scored {
+        private final ClubSearchHit hit;
+        private final double score;
+
+        private Scored(ClubSearchHit hit, double score) {
+            this.hit = hit;
+            this.score = score;
+        }
+    }
+}
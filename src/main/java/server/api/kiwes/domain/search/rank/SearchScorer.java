@@ -0,0 +1,10 @@
+package server.api.kiwes.domain.search.rank;
+
+import server.api.kiwes.domain.search.index.ClubSearchHit;
+
+/**
+ * 검색 결과 개인화 점수 계산기. 높을수록 앞에 노출된다.
+ */
+public interface SearchScorer {
+    double score(ClubSearchHit hit, SearchContext context);
+}
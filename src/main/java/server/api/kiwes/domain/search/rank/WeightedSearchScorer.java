@@ -0,0 +1,39 @@
+package server.api.kiwes.domain.search.rank;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.domain.search.index.ClubSearchDocument;
+import server.api.kiwes.domain.search.index.ClubSearchHit;
+
+/**
+ * 가중합 점수. 언어 일치 > 카테고리 일치 > 본문 일치 > 최신순이 기본값이고,
+ * 본문 일치와 최신순은 0~1 로 정규화해서 더한다.
+ */
+@Component
+public class WeightedSearchScorer implements SearchScorer {
+    private final double languageWeight;
+    private final double categoryWeight;
+    private final double relevanceWeight;
+    private final double recencyWeight;
+
+    public WeightedSearchScorer(@Value("${kiwes.search.weight.language:4}") double languageWeight,
+                                @Value("${kiwes.search.weight.category:2}") double categoryWeight,
+                                @Value("${kiwes.search.weight.relevance:1}") double relevanceWeight,
+                                @Value("${kiwes.search.weight.recency:0.5}") double recencyWeight) {
+        this.languageWeight = languageWeight;
+        this.categoryWeight = categoryWeight;
+        this.relevanceWeight = relevanceWeight;
+        this.recencyWeight = recencyWeight;
+    }
+
+    @Override
+    public double score(ClubSearchHit hit, SearchContext context) {
+        ClubSearchDocument document = hit.getDocument();
+        double score = 0;
+        if (context.matchesLanguage(document.getLanguages())) score += languageWeight;
+        if (context.matchesCategory(document.getCategory())) score += categoryWeight;
+        score += relevanceWeight * hit.getScore() / context.getMaxTextScore();
+        score += recencyWeight * hit.getClubId() / context.getMaxClubId();
+        return score;
+    }
+}
@@ -5,106 +5,65 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import server.api.kiwes.domain.category.entity.Category;
+import server.api.kiwes.domain.club.entity.Club;
 import server.api.kiwes.domain.club.repository.ClubRepository;
-import server.api.kiwes.domain.language.entity.Language;
 import server.api.kiwes.domain.member.entity.Member;
-import server.api.kiwes.domain.member_category.entity.MemberCategory;
-import server.api.kiwes.domain.member_language.entity.MemberLanguage;
 import server.api.kiwes.domain.search.dto.SearchResponseDto;
-import server.api.kiwes.domain.search_count.dto.SearchCountResultDto;
-import server.api.kiwes.domain.search_count.entity.SearchCount;
-import server.api.kiwes.domain.search_count.repository.SearchCountRepository;
+import server.api.kiwes.domain.search.index.ClubSearchHit;
+import server.api.kiwes.domain.search.index.ClubSearchIndex;
+import server.api.kiwes.domain.search.rank.SearchRanker;
+import server.api.kiwes.domain.search_count.service.SearchCountRecorder;
+import server.api.kiwes.domain.search_count.trend.TrendingKeywordEngine;
 
 import java.awt.print.Pageable;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SearchService {
+    private static final int PAGE_SIZE = 7;
+
     private final ClubRepository clubRepository;
-    private final SearchCountRepository searchCountRepository;
+    private final SearchCountRecorder searchCountRecorder;
+    private final TrendingKeywordEngine trendingKeywordEngine;
+    private final ClubSearchIndex clubSearchIndex;
+    private final SearchRanker searchRanker;
 
+    /**
+     * 색인에서 키워드가 포함된 모임을 찾고, 사용자 언어/카테고리 선호로 점수를 매겨 한 페이지(7개)를 반환
+     */
+    @Transactional(readOnly = true)
     public List<SearchResponseDto> search(String keyword, Member member,int cursor) {
-        List<SearchResponseDto> searchResults = clubRepository.findByTitleOrContentContaining(keyword).stream()
-                .filter(sr -> sr.getId() > cursor*7)
-                .limit(7)
+        List<Long> clubIds = searchRanker.rank(clubSearchIndex.search(keyword), member, cursor * PAGE_SIZE, PAGE_SIZE)
+                .stream()
+                .map(ClubSearchHit::getClubId)
+                .collect(Collectors.toList());
+        Map<Long, Club> clubs = clubRepository.findAllById(clubIds).stream()
+                .collect(Collectors.toMap(Club::getId, Function.identity()));
+        List<SearchResponseDto> responseDtos = clubIds.stream()
+                .map(clubs::get)
+                .filter(Objects::nonNull)
                 .map(club -> SearchResponseDto.of(club, member))
                 .collect(Collectors.toList());
-        List<SearchResponseDto> responseDtos = new ArrayList<>();
-
-        // 언어 일치하는게 있으면 삽입
-        for(SearchResponseDto searchResult : searchResults){
-
-            List<String> languageStrings = searchResult.getLanguages();
-
-            // 사용자 언어중에 클럽 언어와 일치하는게 있으면 새 리스트 삽입
-            for(MemberLanguage memberLanguage : member.getLanguages()){
-                Language language = memberLanguage.getLanguage();
-                if(languageStrings.contains(language.getName().getName())){
-                    responseDtos.add(searchResult);
-                    break;
-                }
-            }
-        }
-
-        // 카테고리 일치하는 게 있으면 삽입
-        for(SearchResponseDto searchResult : searchResults){
-            if(responseDtos.contains(searchResult)) continue;
 
-            // 사용자 카테고리중에 클럽 카테고리와 일치하는게 있으면 새 리스트 삽입
-            String categoryString = searchResult.getCategory();
-            for(MemberCategory memberCategory : member.getCategories()){
-                Category category = memberCategory.getCategory();
-                if(categoryString.equals(category.getName().getName())){
-                    responseDtos.add(searchResult);
-                    break;
-                }
-            }
-        }
-
-        for(SearchResponseDto searchResult : searchResults){
-            if(responseDtos.contains(searchResult)) continue;
-
-            responseDtos.add(searchResult);
-        }
-
-        saveSearchHistory(keyword);
+        searchCountRecorder.record(keyword);
         return responseDtos;
     }
 
     /**
-     * 인기검색어를 위해 검색어 저장
+     * 검색 색인을 DB 기준으로 다시 만든다. 색인된 모임 수 반환
      */
-    private void saveSearchHistory(String keyword){
-        Optional<SearchCount> search = searchCountRepository.findBySearchWordIgnoreCaseAndDate(keyword, LocalDate.now());
-
-        if(search.isEmpty()){
-            SearchCount searchCount = SearchCount.builder()
-                    .date(LocalDate.now())
-                    .searchWord(keyword)
-                    .build();
-            searchCountRepository.save(searchCount);
-            return;
-        }
-
-        search.get().addCount();
+    public int rebuildIndex() {
+        return clubSearchIndex.rebuild();
     }
 
     /**
-     * 인기검색어 5개 뽑아 리턴
+     * 인기검색어 5개 리턴. 실시간 인기 검색어 엔진이 미리 계산해 둔 값을 그대로 사용
      */
     public List<String> getPopularSearchKeyword() {
-
-        return searchCountRepository.findAllGroupByKeyword()
-                .stream()
-                .limit(5)
-                .map(SearchCountResultDto::getKeyword)
-                .collect(Collectors.toList());
+        return trendingKeywordEngine.getTopKeywords();
     }
 }
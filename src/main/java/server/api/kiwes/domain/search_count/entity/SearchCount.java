@@ -13,6 +13,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Getter
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_search_count_date_word", columnNames = {"date", "search_word"}))
 public class SearchCount {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "SEARCH_COUNT_ID")
@@ -24,9 +25,5 @@ public class SearchCount {
     @Builder.Default
     private Integer count = 1;
 
-    public void addCount(){
-        this.count++;
-    }
-
     // Scheduler를 통해 일정 기간이 지난 이후에는 데이터를 삭제하도록 하기
 }
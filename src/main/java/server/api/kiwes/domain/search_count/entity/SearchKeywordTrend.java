@@ -0,0 +1,28 @@
+package server.api.kiwes.domain.search_count.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 인기 검색어 엔진의 시간대별 검색 횟수. 인스턴스마다 자기 증가분을 더하고, 재기동 시 엔진을 이 값으로 복구한다.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_search_keyword_trend_hour_word", columnNames = {"bucket_hour", "search_word"}))
+public class SearchKeywordTrend {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SEARCH_KEYWORD_TREND_ID")
+    private Long id;
+
+    private LocalDateTime bucketHour;   // 집계 시간대 (정시)
+    private String searchWord;
+    private Integer count;
+}
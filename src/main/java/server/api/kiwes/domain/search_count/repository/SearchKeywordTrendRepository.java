@@ -0,0 +1,11 @@
+package server.api.kiwes.domain.search_count.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import server.api.kiwes.domain.search_count.entity.SearchKeywordTrend;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SearchKeywordTrendRepository extends JpaRepository<SearchKeywordTrend, Long> {
+    List<SearchKeywordTrend> findAllByBucketHourGreaterThanEqual(LocalDateTime from);
+}
@@ -0,0 +1,115 @@
+package server.api.kiwes.domain.search_count.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.domain.search_count.trend.TrendingKeywordEngine;
+
+import javax.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색어 카운트 write-behind 집계기.
+ * 검색 요청마다 search_count 를 조회/저장하지 않고 (날짜, 검색어)별 LongAdder 에 모아두었다가
+ * 몇 초마다 INSERT ... ON DUPLICATE KEY UPDATE 로 한번에 반영한다.
+ * 한 묶음이 실패하면 행 단위로 다시 넣어, 잘못된 행 하나 때문에 나머지 카운트가 계속 밀리지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchCountRecorder {
+    public static final int MAX_WORD_LENGTH = 255;   // search_count.search_word 컬럼 길이
+    private static final String UPSERT_SQL =
+            "insert into search_count (date, search_word, count) values (?, ?, ?) " +
+            "on duplicate key update count = count + values(count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingKeywordEngine trendingKeywordEngine;
+
+    private final Map<LocalDate, Map<String, LongAdder>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 검색어 1회 적재. 대소문자 구분 없이 세고, 실시간 인기 검색어 엔진에도 넘긴다.
+     * 컬럼 길이를 넘는 검색어는 세지 않는다.
+     */
+    public void record(String keyword) {
+        if (keyword == null || keyword.isBlank()) return;
+
+        String word = keyword.trim().toLowerCase(Locale.ROOT);
+        if (word.length() > MAX_WORD_LENGTH) return;
+        pending.computeIfAbsent(LocalDate.now(), date -> new ConcurrentHashMap<>())
+                .computeIfAbsent(word, w -> new LongAdder())
+                .increment();
+        trendingKeywordEngine.record(word);
+    }
+
+    @Scheduled(fixedDelayString = "${kiwes.search.count.flush-delay:5000}")
+    public void flush() {
+        List<Object[]> rows = drain();
+        if (rows.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (RuntimeException e) {
+            log.warn("search count batch flush failed, retry row by row - {}", e.getMessage());
+            rows.forEach(this::flushRow);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 행 하나를 반영한다. 데이터 자체가 잘못된 행은 버리고, 그 밖의 실패(DB 장애 등)는 다음 flush 때 다시 넣는다.
+     */
+    private void flushRow(Object[] row) {
+        try {
+            jdbcTemplate.update(UPSERT_SQL, row);
+        } catch (DataIntegrityViolationException e) {
+            log.error("search count dropped - word {}, count {}, {}", row[1], row[2], e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("search count flush failed, retry next time - {}", e.getMessage());
+            accumulate(((Date) row[0]).toLocalDate(), (String) row[1], (Long) row[2]);
+        }
+    }
+
+    private void accumulate(LocalDate date, String word, long count) {
+        pending.computeIfAbsent(date, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(word, w -> new LongAdder())
+                .add(count);
+    }
+
+    /**
+     * 적재된 카운트를 (date, word, count) 행으로 꺼낸다. 읽은 만큼 빼서 꺼내는 도중 들어온 카운트는 남겨둔다.
+     * 오늘이 아닌 날짜의 버킷은 비워지면 제거한다.
+     */
+    private List<Object[]> drain() {
+        List<Object[]> rows = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        pending.forEach((date, words) -> {
+            words.forEach((word, adder) -> {
+                long count = adder.sum();
+                if (count == 0) return;
+                adder.add(-count);
+                rows.add(new Object[]{Date.valueOf(date), word, count});
+            });
+            if (date.isBefore(today)) {
+                words.values().removeIf(adder -> adder.sum() == 0);
+                if (words.isEmpty()) pending.remove(date, words);
+            }
+        });
+        return rows;
+    }
+}
@@ -0,0 +1,124 @@
+package server.api.kiwes.domain.search_count.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * search_count 의 (date, search_word) 유니크 키 마이그레이션.
+ * SearchCountRecorder 의 upsert 는 이 키가 있어야 누적되므로, 기동 시 키가 없으면
+ * 기존 중복 행을 가장 작은 id 한 행으로 합친 뒤 키를 추가한다. 여러 인스턴스가 동시에 하지 않도록 GET_LOCK 으로 감싼다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchCountSchemaMigration {
+    private static final String LOCK_NAME = "kiwes.search_count.migration";
+    private static final String KEY_NAME = "uk_search_count_date_word";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String KEY_EXISTS_SQL =
+            "select count(*) from information_schema.statistics " +
+            "where table_schema = database() and table_name = 'search_count' and index_name = ?";
+    private static final String MERGE_COUNTS_SQL =
+            "update search_count s join (" +
+            "  select min(search_count_id) as keep_id, sum(count) as total from search_count " +
+            "  group by date, search_word having count(*) > 1" +
+            ") d on s.search_count_id = d.keep_id set s.count = d.total";
+    private static final String DELETE_DUPLICATES_SQL =
+            "delete s from search_count s join (" +
+            "  select date, search_word, min(search_count_id) as keep_id from search_count " +
+            "  group by date, search_word having count(*) > 1" +
+            ") d on s.date = d.date and s.search_word = d.search_word and s.search_count_id <> d.keep_id";
+    private static final String ADD_KEY_SQL =
+            "alter table search_count add constraint " + KEY_NAME + " unique (date, search_word)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            // GET_LOCK 은 커넥션 단위라 잠금과 마이그레이션을 같은 커넥션에서 수행한다.
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!acquireLock(connection)) {
+                    log.info("search count migration is running on another instance, skip");
+                    return null;
+                }
+                try {
+                    migrate(connection);
+                } finally {
+                    releaseLock(connection);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("search count migration failed - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 합치는 도중에도 upsert 가 중복 행을 넣을 수 있으므로, 키 추가가 실패하면 다시 합치고 재시도한다.
+     */
+    private void migrate(Connection connection) throws SQLException {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            if (keyExists(connection)) return;
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                int merged = statement.executeUpdate(MERGE_COUNTS_SQL);
+                int deleted = statement.executeUpdate(DELETE_DUPLICATES_SQL);
+                connection.commit();
+                log.info("search count duplicates merged - {} keys, {} rows removed", merged, deleted);
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(ADD_KEY_SQL);
+                log.info("search count unique key added");
+                return;
+            } catch (SQLException e) {
+                log.warn("search count unique key add failed (attempt {}) - {}", attempt, e.getMessage());
+            }
+        }
+    }
+
+    private boolean keyExists(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(KEY_EXISTS_SQL)) {
+            statement.setString(1, KEY_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        }
+    }
+
+    private boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select get_lock(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select release_lock(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.execute();
+        }
+    }
+}
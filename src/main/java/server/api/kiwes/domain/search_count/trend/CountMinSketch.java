@@ -0,0 +1,43 @@
+package server.api.kiwes.domain.search_count.trend;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 고정 크기 Count-Min sketch. 검색어 종류가 늘어나도 메모리가 일정하고, 추정값은 실제보다 작아지지 않는다.
+ * 카운터는 AtomicIntegerArray 라 락 없이 동시에 증가시킬 수 있다.
+ */
+public class CountMinSketch {
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    private final int width;
+    private final AtomicIntegerArray counters;
+
+    public CountMinSketch(int width) {
+        this.width = width;
+        this.counters = new AtomicIntegerArray(SEEDS.length * width);
+    }
+
+    public void add(String word, int count) {
+        int hash = word.hashCode();
+        for (int row = 0; row < SEEDS.length; row++) {
+            counters.addAndGet(row * width + index(row, hash), count);
+        }
+    }
+
+    public int estimate(String word) {
+        int hash = word.hashCode();
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            min = Math.min(min, counters.get(row * width + index(row, hash)));
+        }
+        return min;
+    }
+
+    private int index(int row, int hash) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return (h & 0x7FFFFFFF) % width;
+    }
+}
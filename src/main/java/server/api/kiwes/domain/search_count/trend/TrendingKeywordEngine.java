@@ -0,0 +1,253 @@
+package server.api.kiwes.domain.search_count.trend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.domain.search_count.entity.SearchCount;
+import server.api.kiwes.domain.search_count.entity.SearchKeywordTrend;
+import server.api.kiwes.domain.search_count.repository.SearchCountRepository;
+import server.api.kiwes.domain.search_count.repository.SearchKeywordTrendRepository;
+import server.api.kiwes.domain.search_count.service.SearchCountRecorder;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 인기 검색어 엔진.
+ * 최근 3일을 1시간 단위 버킷(Count-Min sketch)으로 나눠 세고, 오래된 버킷일수록 반감기만큼 가중치를 줄여 합산한다.
+ * 후보 검색어의 점수를 주기적으로 계산해 상위 K 개를 미리 만들어 두므로 조회는 O(1) 이다.
+ * 시간대별 정확한 검색 횟수는 따로 모아두었다가 주기적으로 search_keyword_trend 에 더해 저장하고 (인스턴스마다 자기 증가분만),
+ * 재기동 시 그 값으로 복구한다. sketch 추정치는 저장하지 않으므로 충돌로 부풀려진 값이 재기동마다 쌓이지 않는다.
+ */
+@Slf4j
+@Component
+public class TrendingKeywordEngine {
+    private static final int WINDOW_HOURS = 72;
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int TOP_SIZE = 5;
+    private static final int MAX_CANDIDATES = 1000;
+    private static final String UPSERT_SQL =
+            "insert into search_keyword_trend (bucket_hour, search_word, count) values (?, ?, ?) " +
+            "on duplicate key update count = count + values(count)";
+    private static final String DELETE_EXPIRED_SQL = "delete from search_keyword_trend where bucket_hour < ?";
+
+    private final SearchKeywordTrendRepository searchKeywordTrendRepository;
+    private final SearchCountRepository searchCountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final double halfLifeHours;
+
+    private final AtomicReferenceArray<HourBucket> buckets = new AtomicReferenceArray<>(WINDOW_HOURS);
+    private final Map<String, Long> candidates = new ConcurrentHashMap<>();   // 검색어 -> 마지막으로 검색된 시간대
+    private final Map<Long, Map<String, LongAdder>> unsaved = new ConcurrentHashMap<>();   // 시간대 -> 검색어 -> 저장 전 횟수
+    private volatile List<String> topKeywords = List.of();
+
+    public TrendingKeywordEngine(SearchKeywordTrendRepository searchKeywordTrendRepository,
+                                 SearchCountRepository searchCountRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 @Value("${kiwes.search.trend.half-life-hours:12}") double halfLifeHours) {
+        this.searchKeywordTrendRepository = searchKeywordTrendRepository;
+        this.searchCountRepository = searchCountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.halfLifeHours = halfLifeHours;
+    }
+
+    /**
+     * 검색어 1회 적재. 정규화(소문자, trim)는 호출하는 쪽에서 한다. 컬럼 길이를 넘는 검색어는 세지 않는다.
+     */
+    public void record(String word) {
+        if (word.length() > SearchCountRecorder.MAX_WORD_LENGTH) return;
+        long hour = currentHour();
+        bucketFor(hour).sketch.add(word, 1);
+        candidates.put(word, hour);
+        addUnsaved(hour, word, 1);
+    }
+
+    /**
+     * 미리 계산해 둔 인기 검색어. 앞에서부터 1위
+     */
+    public List<String> getTopKeywords() {
+        return topKeywords;
+    }
+
+    /**
+     * 후보 검색어마다 시간 감쇠 점수를 계산해 상위 K 개를 갱신한다.
+     * 창을 벗어났거나 후보 수 상한을 넘는 하위 검색어는 후보에서 뺀다.
+     */
+    @Scheduled(fixedDelayString = "${kiwes.search.trend.refresh-delay:10000}")
+    public void refresh() {
+        long now = currentHour();
+        candidates.entrySet().removeIf(candidate -> candidate.getValue() <= now - WINDOW_HOURS);
+
+        Comparator<Map.Entry<String, Double>> byScore = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(TOP_SIZE + 1, byScore);
+        List<Map.Entry<String, Double>> scored = new ArrayList<>(candidates.size());
+        for (String word : candidates.keySet()) {
+            Map.Entry<String, Double> entry = Map.entry(word, score(word, now));
+            scored.add(entry);
+            top.add(entry);
+            if (top.size() > TOP_SIZE) top.poll();
+        }
+
+        List<String> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().getKey());
+        }
+        Collections.reverse(result);
+        topKeywords = List.copyOf(result);
+
+        if (scored.size() > MAX_CANDIDATES) {
+            scored.sort(byScore);
+            scored.subList(0, scored.size() - MAX_CANDIDATES).forEach(entry -> candidates.remove(entry.getKey()));
+        }
+    }
+
+    /**
+     * 지난 저장 이후 늘어난 횟수만 더해 저장하고 창을 벗어난 스냅샷은 지운다.
+     * 보통 현재와 직전 시간대만 남아있다. 저장에 실패하면 다음 번에 다시 더한다.
+     */
+    @Scheduled(fixedDelayString = "${kiwes.search.trend.snapshot-delay:300000}")
+    public void snapshot() {
+        long now = currentHour();
+        List<Object[]> rows = drainUnsaved(now);
+
+        try {
+            if (!rows.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (RuntimeException e) {
+            log.error("search trend snapshot failed, retry next time - {}", e.getMessage());
+            rows.forEach(row -> addUnsaved(toHour(((Timestamp) row[0]).toLocalDateTime()), (String) row[1], (Long) row[2]));
+            return;
+        }
+        try {
+            jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(toDateTime(now - WINDOW_HOURS + 1)));
+        } catch (RuntimeException e) {
+            log.warn("search trend snapshot cleanup failed - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 시 스냅샷(모든 인스턴스가 더한 시간대별 정확한 횟수)으로 복구한다. 스냅샷이 없으면 최근 3일의 일별 검색 카운트로 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = currentHour();
+        long from = now - WINDOW_HOURS + 1;
+
+        List<SearchKeywordTrend> trends = searchKeywordTrendRepository.findAllByBucketHourGreaterThanEqual(toDateTime(from));
+        if (!trends.isEmpty()) {
+            for (SearchKeywordTrend trend : trends) {
+                load(toHour(trend.getBucketHour()), trend.getSearchWord(), trend.getCount());
+            }
+        } else {
+            LocalDate fromDate = toDateTime(from).toLocalDate();
+            for (SearchCount searchCount : searchCountRepository.findAllByDateGreaterThanEqual(fromDate)) {
+                long hour = Math.max(toHour(searchCount.getDate().atStartOfDay()), from);
+                load(hour, searchCount.getSearchWord().toLowerCase(Locale.ROOT), searchCount.getCount());
+            }
+        }
+        refresh();
+        log.info("search trend engine restored - {} candidates", candidates.size());
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void addUnsaved(long hour, String word, long count) {
+        unsaved.computeIfAbsent(hour, h -> new ConcurrentHashMap<>())
+                .computeIfAbsent(word, w -> new LongAdder())
+                .add(count);
+    }
+
+    /**
+     * 저장 전 횟수를 (bucket_hour, word, count) 행으로 꺼낸다. 읽은 만큼 빼서 꺼내는 도중 들어온 횟수는 남겨둔다.
+     * 현재 시간대가 아닌 버킷은 비워지면 제거하고, 창을 벗어난 버킷은 버린다.
+     */
+    private List<Object[]> drainUnsaved(long now) {
+        List<Object[]> rows = new ArrayList<>();
+        unsaved.forEach((hour, words) -> {
+            if (hour <= now - WINDOW_HOURS) {
+                unsaved.remove(hour, words);
+                return;
+            }
+            Timestamp bucketHour = Timestamp.valueOf(toDateTime(hour));
+            words.forEach((word, adder) -> {
+                long count = adder.sum();
+                if (count == 0) return;
+                adder.add(-count);
+                rows.add(new Object[]{bucketHour, word, count});
+            });
+            if (hour < now) {
+                words.values().removeIf(adder -> adder.sum() == 0);
+                if (words.isEmpty()) unsaved.remove(hour, words);
+            }
+        });
+        return rows;
+    }
+
+    private void load(long hour, String word, int count) {
+        if (hour > currentHour()) return;
+        bucketFor(hour).sketch.add(word, count);
+        candidates.merge(word, hour, Math::max);
+    }
+
+    private double score(String word, long now) {
+        double score = 0;
+        for (int age = 0; age < WINDOW_HOURS; age++) {
+            HourBucket bucket = buckets.get(slot(now - age));
+            if (bucket == null || bucket.hour != now - age) continue;
+
+            int count = bucket.sketch.estimate(word);
+            if (count > 0) score += count * Math.pow(0.5, age / halfLifeHours);
+        }
+        return score;
+    }
+
+    /**
+     * 해당 시간대 버킷. 슬롯에 3일 전 버킷이 남아있으면 새 버킷으로 교체한다.
+     */
+    private HourBucket bucketFor(long hour) {
+        int slot = slot(hour);
+        HourBucket bucket = buckets.get(slot);
+        while (bucket == null || bucket.hour < hour) {
+            HourBucket fresh = new HourBucket(hour);
+            if (buckets.compareAndSet(slot, bucket, fresh)) return fresh;
+            bucket = buckets.get(slot);
+        }
+        return bucket;
+    }
+
+    private int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) WINDOW_HOURS);
+    }
+
+    private long currentHour() {
+        return toHour(LocalDateTime.now());
+    }
+
+    private long toHour(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() / 3600;
+    }
+
+    private LocalDateTime toDateTime(long hour) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(hour * 3600), ZoneId.systemDefault());
+    }
+
+    private static class HourBucket {
+        private final long hour;
+        private final CountMinSketch sketch = new CountMinSketch(SKETCH_WIDTH);
+
+        private HourBucket(long hour) {
+            this.hour = hour;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package server.api.kiwes.domain.translate.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+import software.amazon.awssdk.services.translate.model.TranslateTextRequest;
+import software.amazon.awssdk.services.translate.model.TranslateTextResponse;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AWS Translate 비동기 클라이언트. 커넥션 풀을 가진 클라이언트를 한번만 만들어 재사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "kiwes.translate.backend", havingValue = "aws", matchIfMissing = true)
+public class AwsTranslateBackend implements TranslateBackend {
+    private final TranslateAsyncClient translateClient;
+
+    public AwsTranslateBackend(@Value("${kiwes.translate.max-concurrency:50}") int maxConcurrency,
+                               @Value("${kiwes.translate.connect-timeout-ms:2000}") long connectTimeout,
+                               @Value("${kiwes.translate.read-timeout-ms:5000}") long readTimeout) {
+        this.translateClient = TranslateAsyncClient.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency)
+                        .connectionTimeout(Duration.ofMillis(connectTimeout))
+                        .readTimeout(Duration.ofMillis(readTimeout))
+                        .connectionMaxIdleTime(Duration.ofSeconds(60)))
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<String> translate(String sourceLang, String targetLang, String text) {
+        TranslateTextRequest textRequest = TranslateTextRequest.builder()
+                .sourceLanguageCode(sourceLang)
+                .targetLanguageCode(targetLang)
+                .text(text)
+                .build();
+        return translateClient.translateText(textRequest).thenApply(TranslateTextResponse::translatedText);
+    }
+
+    @PreDestroy
+    public void close() {
+        translateClient.close();
+    }
+}
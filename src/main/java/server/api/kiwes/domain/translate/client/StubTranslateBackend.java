@@ -0,0 +1,19 @@
+package server.api.kiwes.domain.translate.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AWS 없이 돌리는 로컬용 번역기. "[target] 원문" 을 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(name = "kiwes.translate.backend", havingValue = "stub")
+public class StubTranslateBackend implements TranslateBackend {
+
+    @Override
+    public CompletableFuture<String> translate(String sourceLang, String targetLang, String text) {
+        return CompletableFuture.completedFuture("[" + targetLang + "] " + text);
+    }
+}
@@ -0,0 +1,11 @@
+package server.api.kiwes.domain.translate.client;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 번역 엔진. 운영은 AWS Translate, 로컬/오프라인 테스트는 kiwes.translate.backend=stub
+ */
+public interface TranslateBackend {
+
+    CompletableFuture<String> translate(String sourceLang, String targetLang, String text);
+}
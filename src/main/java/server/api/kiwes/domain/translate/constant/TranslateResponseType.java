@@ -8,7 +8,9 @@ import server.api.kiwes.response.BaseResponseType;
 @Getter
 @AllArgsConstructor
 public enum TranslateResponseType implements BaseResponseType {
-    TRANSLATE_SUCCESS(20011, "번역 성공", HttpStatus.OK);
+    TRANSLATE_SUCCESS(20011, "번역 성공", HttpStatus.OK),
+    TRANSLATE_BATCH_SUCCESS(20012, "일괄 번역 성공", HttpStatus.OK),
+    TOO_MANY_SEGMENTS(40011, "한번에 번역할 수 있는 문단 수를 넘었습니다.", HttpStatus.BAD_REQUEST);
     private final Integer code;
     private final String message;
     private final HttpStatus httpStatus;
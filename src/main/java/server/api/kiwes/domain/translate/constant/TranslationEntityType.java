@@ -0,0 +1,11 @@
+package server.api.kiwes.domain.translate.constant;
+
+/**
+ * 미리 번역해두는 원문의 종류와 필드
+ */
+public enum TranslationEntityType {
+    CLUB,
+    QNA,
+    REVIEW,
+    ;
+}
@@ -0,0 +1,10 @@
+package server.api.kiwes.domain.translate.constant;
+
+public enum TranslationField {
+    TITLE,      // 모임 제목
+    CONTENT,    // 모임 소개, 후기 본문
+    QUESTION,   // QnA 질문
+    ANSWER,     // QnA 답변 (조회 화면에서 쓰지 않아 현재 발행하지 않음)
+    REPLY,      // 후기 답글
+    ;
+}
@@ -8,10 +8,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import server.api.kiwes.domain.translate.constant.TranslateResponseType;
+import server.api.kiwes.domain.translate.dto.TranslateBatchRequestDto;
 import server.api.kiwes.domain.translate.dto.TranslateRequsetDto;
 import server.api.kiwes.domain.translate.service.TranslateService;
 import server.api.kiwes.response.ApiResponse;
 
+import java.util.List;
+
 @Api(tags = "Translate")
 @RestController
 @RequiredArgsConstructor
@@ -25,4 +28,12 @@ public class TranslateControl {
         return ApiResponse.of(TranslateResponseType.TRANSLATE_SUCCESS,
                 translateService.translate(requset));
     }
+
+    @ApiOperation(value = "여러 문단 일괄 번역", notes = "모임 소개, QnA, 후기처럼 한 화면의 문단을 한번에 번역한다.\n" +
+            "결과는 texts 와 같은 순서의 배열이며, 번역에 실패한 문단은 빈 문자열이다.")
+    @PostMapping("/translate/batch")
+    public ApiResponse<List<String>> translateBatch(@RequestBody TranslateBatchRequestDto request){
+        return ApiResponse.of(TranslateResponseType.TRANSLATE_BATCH_SUCCESS,
+                translateService.translateBatch(request));
+    }
 }
@@ -0,0 +1,16 @@
+package server.api.kiwes.domain.translate.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@ApiModel(description = "여러 문단을 한번에 번역하기 위한 요청 객체")
+public class TranslateBatchRequestDto {
+    @ApiModelProperty(notes = "번역할 문단 목록. 응답은 같은 순서로 돌려준다.")
+    List<String> texts;
+    String source;
+    String target;
+}
@@ -0,0 +1,42 @@
+package server.api.kiwes.domain.translate.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import server.api.kiwes.domain.language.type.LanguageType;
+import server.api.kiwes.domain.translate.constant.TranslationEntityType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+
+import javax.persistence.*;
+
+/**
+ * 작성 시점에 미리 번역해둔 모임/QnA/후기 문구.
+ * source_hash 는 번역한 원문의 해시로, 원문이 수정되어 아직 다시 번역되지 않은 경우를 걸러낸다.
+ * source_version 은 원문이 커밋된 시각(ms)으로, 늦게 끝난 예전 원문의 번역이 새 번역을 덮어쓰지 않게 한다.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_translation_entity_field_language",
+        columnNames = {"entity_type", "entity_id", "field", "language"}))
+public class Translation {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "TRANSLATION_ID")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private TranslationEntityType entityType;
+    private Long entityId;
+    @Enumerated(EnumType.STRING)
+    private TranslationField field;
+    @Enumerated(EnumType.STRING)
+    private LanguageType language;
+
+    private String sourceHash;
+    private Long sourceVersion;
+    @Column(columnDefinition = "TEXT")
+    private String translatedText;
+}
@@ -0,0 +1,30 @@
+package server.api.kiwes.domain.translate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import server.api.kiwes.domain.translate.constant.TranslationEntityType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 미리 번역 요청. 커밋 후 PreTranslationService 가 모임의 언어들로 번역해서 저장한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TranslationEvent {
+    private final TranslationEntityType entityType;
+    private final Long entityId;
+    private final Long clubId;      // 번역할 언어를 정하는 모임
+    private final Map<TranslationField, String> fields;
+
+    public static TranslationEvent of(TranslationEntityType entityType, Long entityId, Long clubId) {
+        return new TranslationEvent(entityType, entityId, clubId, new EnumMap<>(TranslationField.class));
+    }
+
+    public TranslationEvent field(TranslationField field, String text) {
+        if (text != null && !text.isBlank()) fields.put(field, text);
+        return this;
+    }
+}
@@ -0,0 +1,25 @@
+package server.api.kiwes.domain.translate.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import server.api.kiwes.domain.language.type.LanguageType;
+import server.api.kiwes.domain.translate.entity.Translation;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TranslationRepository extends JpaRepository<Translation, Long> {
+
+    /**
+     * 모임 상세 화면에 필요한 번역을 한번에 조회 (모임 + 미리보기 qna/review)
+     */
+    @Query("select t from Translation t where t.language = :language and (" +
+            "(t.entityType = server.api.kiwes.domain.translate.constant.TranslationEntityType.CLUB and t.entityId = :clubId) or " +
+            "(t.entityType = server.api.kiwes.domain.translate.constant.TranslationEntityType.QNA and t.entityId in :qnaIds) or " +
+            "(t.entityType = server.api.kiwes.domain.translate.constant.TranslationEntityType.REVIEW and t.entityId in :reviewIds))")
+    List<Translation> findClubDetailTranslations(@Param("language") LanguageType language,
+                                                 @Param("clubId") Long clubId,
+                                                 @Param("qnaIds") Collection<Long> qnaIds,
+                                                 @Param("reviewIds") Collection<Long> reviewIds);
+}
@@ -0,0 +1,41 @@
+package server.api.kiwes.domain.translate.service;
+
+import server.api.kiwes.domain.translate.constant.TranslationEntityType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+import server.api.kiwes.domain.translate.entity.Translation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 화면에 필요한 미리 번역된 문구 묶음.
+ * 원문이 번역 이후 수정되었으면(해시 불일치) 원문을 그대로 돌려준다.
+ */
+public class LocalizedTexts {
+    private static final LocalizedTexts EMPTY = new LocalizedTexts(Collections.emptyList());
+
+    private final Map<String, Translation> translations = new HashMap<>();
+
+    public LocalizedTexts(List<Translation> translations) {
+        translations.forEach(t -> this.translations.put(key(t.getEntityType(), t.getEntityId(), t.getField()), t));
+    }
+
+    public static LocalizedTexts empty() {
+        return EMPTY;
+    }
+
+    public String get(TranslationEntityType entityType, Long entityId, TranslationField field, String original) {
+        if (original == null || original.isBlank() || translations.isEmpty()) return original;
+        Translation translation = translations.get(key(entityType, entityId, field));
+        if (translation == null || !translation.getSourceHash().equals(PreTranslationService.sourceHash(original))) {
+            return original;
+        }
+        return translation.getTranslatedText();
+    }
+
+    private static String key(TranslationEntityType entityType, Long entityId, TranslationField field) {
+        return entityType.name() + ":" + entityId + ":" + field.name();
+    }
+}
@@ -0,0 +1,138 @@
+package server.api.kiwes.domain.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import server.api.kiwes.domain.club.dto.ClubLanguageNameDto;
+import server.api.kiwes.domain.club_language.repository.ClubLanguageRepository;
+import server.api.kiwes.domain.language.type.LanguageType;
+import server.api.kiwes.domain.translate.constant.TranslationField;
+import server.api.kiwes.domain.translate.event.TranslationEvent;
+import server.api.kiwes.domain.translate.repository.TranslationRepository;
+import server.api.kiwes.global.util.Hashes;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 작성 시점 미리 번역.
+ * 모임/QnA/후기가 저장되면 커밋 후 백그라운드에서 모임의 언어들로 번역해 translation 테이블에 upsert 한다.
+ * 조회 화면은 원문 해시가 같은 번역만 쓰므로, 번역이 끝나기 전이나 실패한 경우에는 원문이 그대로 나간다.
+ * 연달아 수정되어 번역이 순서 없이 끝나도, 커밋 시각(source_version)이 더 최근인 원문의 번역만 남는다.
+ */
+@Slf4j
+@Service
+public class PreTranslationService {
+    private static final String SOURCE_AUTO = "auto";
+    private static final String UPSERT_SQL =
+            "insert into translation (entity_type, entity_id, field, language, source_hash, source_version, translated_text) " +
+            "values (?, ?, ?, ?, ?, ?, ?) " +
+            // 앞의 대입이 뒤의 조건에 보이므로 source_version 은 마지막에 바꾼다.
+            "on duplicate key update " +
+            "translated_text = if(values(source_version) >= coalesce(source_version, 0), values(translated_text), translated_text), " +
+            "source_hash = if(values(source_version) >= coalesce(source_version, 0), values(source_hash), source_hash), " +
+            "source_version = greatest(coalesce(source_version, 0), values(source_version))";
+
+    private final TranslateService translateService;
+    private final ClubLanguageRepository clubLanguageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TranslationRepository translationRepository;
+    private final ExecutorService executor;
+
+    public PreTranslationService(TranslateService translateService,
+                                 ClubLanguageRepository clubLanguageRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TranslationRepository translationRepository,
+                                 @Value("${kiwes.translate.pre-translation.workers:2}") int workers,
+                                 @Value("${kiwes.translate.pre-translation.queue-capacity:1000}") int queueCapacity) {
+        this.translateService = translateService;
+        this.clubLanguageRepository = clubLanguageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.translationRepository = translationRepository;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "pre-translation");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 발행한 트랜잭션이 커밋된 뒤에만 번역을 맡긴다. 큐가 가득 차면 버린다. (조회 시 원문으로 대체됨)
+     * 커밋된 시각을 원문 버전으로 쓴다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void enqueue(TranslationEvent event) {
+        if (event.getFields().isEmpty()) return;
+        long sourceVersion = System.currentTimeMillis();
+        try {
+            executor.execute(() -> translate(event, sourceVersion));
+        } catch (RejectedExecutionException e) {
+            log.warn("pre-translation queue is full, skip {} {}", event.getEntityType(), event.getEntityId());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 모임 상세 화면(모임 + 미리보기 qna/review)의 번역. 번역 대상이 아닌 언어면 비어 있다.
+     */
+    public LocalizedTexts findClubDetail(LanguageType language, Long clubId,
+                                         Collection<Long> qnaIds, Collection<Long> reviewIds) {
+        if (language == null || language.getTranslateCode() == null) return LocalizedTexts.empty();
+        return new LocalizedTexts(translationRepository.findClubDetailTranslations(
+                language, clubId, orNone(qnaIds), orNone(reviewIds)));
+    }
+
+    /**
+     * 원문이 바뀌었는지 확인하는 해시. 조회 시 현재 원문과 비교한다.
+     */
+    public static String sourceHash(String text) {
+        return Hashes.sha256(text);
+    }
+
+    private void translate(TranslationEvent event, long sourceVersion) {
+        List<TranslationField> fields = new ArrayList<>(event.getFields().keySet());
+        List<String> texts = new ArrayList<>(event.getFields().values());
+
+        for (LanguageType language : findTargetLanguages(event.getClubId())) {
+            try {
+                List<String> translated = translateService.translateBatch(SOURCE_AUTO, language.getTranslateCode(), texts);
+                List<Object[]> rows = new ArrayList<>(fields.size());
+                for (int i = 0; i < fields.size(); i++) {
+                    // 실패한 문단은 빈 문자열로 오므로 저장하지 않는다.
+                    if (translated.get(i).isEmpty()) continue;
+                    rows.add(new Object[]{event.getEntityType().name(), event.getEntityId(), fields.get(i).name(),
+                            language.name(), sourceHash(texts.get(i)), sourceVersion, translated.get(i)});
+                }
+                if (!rows.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            } catch (RuntimeException e) {
+                log.warn("pre-translation failed - {} {} {}, {}",
+                        event.getEntityType(), event.getEntityId(), language, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 빈 IN 절은 SQL 오류가 나므로 존재하지 않는 id 로 대신한다.
+     */
+    private Collection<Long> orNone(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of(0L) : ids;
+    }
+
+    private Set<LanguageType> findTargetLanguages(Long clubId) {
+        Set<LanguageType> languages = EnumSet.noneOf(LanguageType.class);
+        for (ClubLanguageNameDto clubLanguage : clubLanguageRepository.findLanguageNamesByClubIds(List.of(clubId))) {
+            if (clubLanguage.getName() != null && clubLanguage.getName().getTranslateCode() != null) {
+                languages.add(clubLanguage.getName());
+            }
+        }
+        return languages;
+    }
+}
@@ -1,46 +1,230 @@
 package server.api.kiwes.domain.translate.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import server.api.kiwes.domain.translate.client.TranslateBackend;
+import server.api.kiwes.domain.translate.constant.TranslateResponseType;
+import server.api.kiwes.domain.translate.dto.TranslateBatchRequestDto;
 import server.api.kiwes.domain.translate.dto.TranslateRequsetDto;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.translate.TranslateClient;
+import server.api.kiwes.response.BizException;
 import software.amazon.awssdk.services.translate.model.TranslateException;
-import software.amazon.awssdk.services.translate.model.TranslateTextRequest;
-import software.amazon.awssdk.services.translate.model.TranslateTextResponse;
 
-import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 번역.
+ * 캐시에 없는 문단만 번역 API 로 보내고, 다른 요청이 같은 문단을 번역 중이면 그 결과를 기다린다. (single-flight)
+ * 일괄 번역은 짧은 문단마다 {{번호}} 표식을 붙여 줄바꿈으로 잇고 번역 API 한도 안에서 한번에 보낸다.
+ * 돌아온 줄의 표식이 순서대로 그대로 남아 있을 때만 문단별로 나눠 캐시하고, 아니면 한 문단씩 다시 보낸다.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
-@Transactional
 public class TranslateService {
+    private static final String SEGMENT_DELIMITER = "\n";
+    private static final String MARKER_OPEN = "{{";
+    private static final String MARKER_CLOSE = "}} ";
+
+    private final TranslateBackend translateBackend;
+    private final TranslationCache translationCache;
+    private final int maxRequestBytes;
+    private final int maxSegments;
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public TranslateService(TranslateBackend translateBackend, TranslationCache translationCache,
+                            @Value("${kiwes.translate.max-request-bytes:9000}") int maxRequestBytes,
+                            @Value("${kiwes.translate.batch-max-segments:50}") int maxSegments) {
+        this.translateBackend = translateBackend;
+        this.translationCache = translationCache;
+        this.maxRequestBytes = maxRequestBytes;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * 번역. 캐시에 있으면 번역 API 를 부르지 않는다. 실패하면 빈 문자열 (캐시하지 않음)
+     */
     public String translate(TranslateRequsetDto requset) {
-        Region region = Region.AP_NORTHEAST_2;
-        TranslateClient translateClient = TranslateClient.builder()
-                .region(region)
-                .build();
+        return translateText(requset.getSource(), requset.getTarget(), requset.getText());
+    }
+
+    public String translateText(String sourceLang, String targetLang, String text) {
+        return await(translateAsync(sourceLang, targetLang, Collections.singletonList(text)).get(0));
+    }
+
+    /**
+     * 일괄 번역. 요청한 순서대로 돌려준다.
+     */
+    public List<String> translateBatch(TranslateBatchRequestDto request) {
+        List<String> texts = request.getTexts();
+        if (texts != null && texts.size() > maxSegments) throw new BizException(TranslateResponseType.TOO_MANY_SEGMENTS);
+        return translateBatch(request.getSource(), request.getTarget(), texts);
+    }
+
+    public List<String> translateBatch(String sourceLang, String targetLang, List<String> texts) {
+        if (texts == null || texts.isEmpty()) return Collections.emptyList();
+
+        List<String> results = new ArrayList<>(texts.size());
+        for (CompletableFuture<String> future : translateAsync(sourceLang, targetLang, texts)) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    private List<CompletableFuture<String>> translateAsync(String sourceLang, String targetLang, List<String> texts) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(texts.size());
+        Map<String, CompletableFuture<String>> seen = new HashMap<>();
+        Map<String, CompletableFuture<String>> owned = new LinkedHashMap<>();   // 이 요청이 번역을 맡은 문단
+
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                futures.add(CompletableFuture.completedFuture(""));
+                continue;
+            }
+            CompletableFuture<String> future = seen.get(text);
+            if (future == null) {
+                future = lookup(sourceLang, targetLang, text, owned);
+                seen.put(text, future);
+            }
+            futures.add(future);
+        }
+
+        if (!owned.isEmpty()) dispatch(sourceLang, targetLang, owned);
+        return futures;
+    }
+
+    /**
+     * 캐시 -> 진행 중인 번역 순으로 찾고, 둘 다 없으면 이 요청이 번역을 맡는다.
+     */
+    private CompletableFuture<String> lookup(String sourceLang, String targetLang, String text,
+                                             Map<String, CompletableFuture<String>> owned) {
+        String key = TranslationCache.key(sourceLang, targetLang, text);
+        String cached = translationCache.get(key);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) return running;
 
-        String result = translateText(translateClient, requset.getSource(), requset.getTarget(), requset.getText());
-        translateClient.close();
-        return result;
+        mine.whenComplete((translated, error) -> inFlight.remove(key, mine));
+        owned.put(text, mine);
+        return mine;
     }
 
-    public static String translateText(TranslateClient translateClient, String sourceLang, String targetLang, String text) {
+    /**
+     * 맡은 문단을 한도(maxRequestBytes) 안에서 묶어 보낸다. 줄바꿈이 있는 문단은 구분자와 섞이므로 따로 보낸다.
+     */
+    private void dispatch(String sourceLang, String targetLang, Map<String, CompletableFuture<String>> owned) {
+        List<String> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        // 문단마다 붙는 줄바꿈과 {{번호}} 표식의 최대 크기
+        int markerBytes = SEGMENT_DELIMITER.length() + MARKER_OPEN.length() + MARKER_CLOSE.length()
+                + String.valueOf(owned.size()).length();
+        for (String text : owned.keySet()) {
+            int bytes = text.getBytes(StandardCharsets.UTF_8).length + markerBytes;
+            if (text.contains(SEGMENT_DELIMITER) || bytes > maxRequestBytes) {
+                translateOne(sourceLang, targetLang, text, owned.get(text));
+                continue;
+            }
+            if (!chunk.isEmpty() && chunkBytes + bytes > maxRequestBytes) {
+                translateChunk(sourceLang, targetLang, chunk, owned);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(text);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty()) translateChunk(sourceLang, targetLang, chunk, owned);
+    }
+
+    private void translateChunk(String sourceLang, String targetLang, List<String> segments,
+                                Map<String, CompletableFuture<String>> owned) {
+        if (segments.size() == 1) {
+            translateOne(sourceLang, targetLang, segments.get(0), owned.get(segments.get(0)));
+            return;
+        }
+
+        StringBuilder packed = new StringBuilder();
+        for (int i = 0; i < segments.size(); i++) {
+            if (i > 0) packed.append(SEGMENT_DELIMITER);
+            packed.append(MARKER_OPEN).append(i).append(MARKER_CLOSE).append(segments.get(i));
+        }
+
+        call(sourceLang, targetLang, packed.toString())
+                .whenComplete((translated, error) -> {
+                    List<String> parts = error == null ? unpack(translated, segments.size()) : null;
+                    if (parts == null) {
+                        // 번역기가 줄이나 표식을 바꿔서 문단을 확실히 짝지을 수 없으면 한 문단씩 다시 보낸다.
+                        segments.forEach(text -> translateOne(sourceLang, targetLang, text, owned.get(text)));
+                        return;
+                    }
+                    for (int i = 0; i < parts.size(); i++) {
+                        complete(sourceLang, targetLang, segments.get(i), parts.get(i), owned.get(segments.get(i)));
+                    }
+                });
+    }
+
+    /**
+     * 줄 수가 같고 i 번째 줄이 {{i}} 표식으로 시작할 때만 표식을 떼서 돌려준다. 아니면 null
+     */
+    private List<String> unpack(String translated, int size) {
+        String[] lines = translated.split(SEGMENT_DELIMITER, -1);
+        if (lines.length != size) return null;
+
+        List<String> parts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String line = lines[i].trim();
+            String marker = MARKER_OPEN + i + MARKER_CLOSE.trim();
+            if (!line.startsWith(marker)) return null;
+            parts.add(line.substring(marker.length()).trim());
+        }
+        return parts;
+    }
+
+    private void translateOne(String sourceLang, String targetLang, String text, CompletableFuture<String> future) {
+        call(sourceLang, targetLang, text).whenComplete((translated, error) -> {
+            if (error != null) future.completeExceptionally(error);
+            else complete(sourceLang, targetLang, text, translated, future);
+        });
+    }
+
+    /**
+     * 번역 API 호출. 호출 자체가 바로 실패해도 기다리는 쪽이 멈추지 않도록 실패한 future 로 돌려준다.
+     */
+    private CompletableFuture<String> call(String sourceLang, String targetLang, String text) {
         try {
-            TranslateTextRequest textRequest = TranslateTextRequest.builder()
-                    .sourceLanguageCode(sourceLang)
-                    .targetLanguageCode(targetLang)
-                    .text(text)
-                    .build();
+            return translateBackend.translate(sourceLang, targetLang, text);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            TranslateTextResponse textResponse = translateClient.translateText(textRequest);
-            return textResponse.translatedText();
+    private void complete(String sourceLang, String targetLang, String text, String translated,
+                          CompletableFuture<String> future) {
+        try {
+            translationCache.put(TranslationCache.key(sourceLang, targetLang, text), translated);
+        } finally {
+            future.complete(translated);
+        }
+    }
 
-        } catch (TranslateException e) {
-            System.err.println(e.awsErrorDetails().errorMessage());
+    /**
+     * 실패한 문단은 원인과 관계없이(번역 API 오류, SDK 타임아웃, 연결 실패 등) 빈 문자열로 돌려준다.
+     */
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            String message = cause instanceof TranslateException && ((TranslateException) cause).awsErrorDetails() != null
+                    ? ((TranslateException) cause).awsErrorDetails().errorMessage()
+                    : cause.getMessage();
+            log.warn("translate failed - {}: {}", cause.getClass().getSimpleName(), message);
         }
         return "";
     }
@@ -0,0 +1,65 @@
+package server.api.kiwes.domain.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.global.util.Hashes;
+import server.api.kiwes.global.util.LruCache;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 번역 결과 캐시. (원문 언어, 번역 언어, 원문 해시)를 키로 한다.
+ * 인스턴스 메모리의 LRU 와 인스턴스끼리 공유하는 Redis 두 단계로 두고,
+ * 같은 모임 소개/QnA/후기를 여러 사용자가 번역해도 번역 API 는 한번만 부른다.
+ * Redis 장애 시에는 메모리 캐시만으로 동작한다.
+ */
+@Slf4j
+@Component
+public class TranslationCache {
+    private static final String KEY_PREFIX = "kiwes:translate:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Map<String, String> local;
+
+    public TranslationCache(StringRedisTemplate stringRedisTemplate,
+                            @Value("${kiwes.translate.cache.local-size:10000}") int localSize,
+                            @Value("${kiwes.translate.cache.ttl-days:30}") long ttlDays) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.local = LruCache.synchronizedLru(localSize);
+    }
+
+    public static String key(String sourceLang, String targetLang, String text) {
+        return KEY_PREFIX + sourceLang + ":" + targetLang + ":" + Hashes.sha256UrlSafe(text);
+    }
+
+    /**
+     * 캐시된 번역. 없으면 null
+     */
+    public String get(String key) {
+        String cached = local.get(key);
+        if (cached != null) return cached;
+
+        try {
+            cached = stringRedisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("translation cache read failed - {}", e.getMessage());
+            return null;
+        }
+        if (cached != null) local.put(key, cached);
+        return cached;
+    }
+
+    public void put(String key, String translated) {
+        local.put(key, translated);
+        try {
+            stringRedisTemplate.opsForValue().set(key, translated, ttl);
+        } catch (RuntimeException e) {
+            log.warn("translation cache write failed - {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package server.api.kiwes.global.aws;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * S3 object key 규칙. DB 에는 파일 id 만 저장하고 key 는 여기서만 만든다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageType {
+    PROFILE_IMAGE("profileimg/", ".jpg"),
+    CLUB_THUMBNAIL("clubThumbnail/", ""),
+    ;
+
+    private final String prefix;
+    private final String extension;
+
+    public String key(String fileId) {
+        return prefix + fileId + extension;
+    }
+}
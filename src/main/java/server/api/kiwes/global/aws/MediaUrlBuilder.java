@@ -0,0 +1,64 @@
+package server.api.kiwes.global.aws;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.global.util.LruCache;
+
+import java.util.Map;
+
+/**
+ * 이미지 공개 URL 생성기.
+ * 버킷/리전은 S3 설정을 그대로 쓰고, kiwes.media.cdn-host 가 있으면 CDN 주소로 만든다.
+ * kiwes.media.version 을 주면 ?v= 를 붙여 CDN 캐시를 한번에 무효화할 수 있다. (기본 이미지처럼 key 가 바뀌지 않는 경우)
+ * 같은 key 는 같은 URL 문자열을 돌려주도록 LRU 캐시에 둔다.
+ * DTO 생성자/JPQL 프로젝션에서도 쓸 수 있도록 static 메서드를 제공한다.
+ */
+@Component
+public class MediaUrlBuilder {
+    private static volatile MediaUrlBuilder instance;
+
+    private final String baseUrl;
+    private final String versionSuffix;
+    private final Map<String, String> cache;
+
+    public MediaUrlBuilder(@Value("${cloud.aws.s3.bucket}") String bucket,
+                           @Value("${cloud.aws.region.static}") String region,
+                           @Value("${kiwes.media.cdn-host:}") String cdnHost,
+                           @Value("${kiwes.media.version:}") String version,
+                           @Value("${kiwes.media.url-cache-size:20000}") int cacheSize) {
+        this.baseUrl = cdnHost.isBlank()
+                ? "https://" + bucket + ".s3." + region + ".amazonaws.com/"
+                : (cdnHost.endsWith("/") ? cdnHost : cdnHost + "/");
+        this.versionSuffix = version.isBlank() ? "" : "?v=" + version;
+        this.cache = LruCache.synchronizedLru(cacheSize);
+        instance = this;
+    }
+
+    /**
+     * 파일 id 의 공개 URL. id 가 없으면 null
+     */
+    public String url(ImageType type, String fileId) {
+        if (fileId == null) return null;
+        String key = type.key(fileId);
+        String url = cache.get(key);
+        if (url == null) {
+            url = baseUrl + key + versionSuffix;
+            cache.put(key, url);
+        }
+        return url;
+    }
+
+    public static String profileImage(String fileId) {
+        return get().url(ImageType.PROFILE_IMAGE, fileId);
+    }
+
+    public static String clubThumbnail(String fileId) {
+        return get().url(ImageType.CLUB_THUMBNAIL, fileId);
+    }
+
+    private static MediaUrlBuilder get() {
+        MediaUrlBuilder builder = instance;
+        if (builder == null) throw new IllegalStateException("MediaUrlBuilder is not initialized");
+        return builder;
+    }
+}
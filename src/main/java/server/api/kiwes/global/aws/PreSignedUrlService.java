@@ -41,6 +41,13 @@ public class PreSignedUrlService {
         return amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest).toString();
     }
 
+    /**
+     * ImageType 규칙의 object key 로 업로드 URL 발급
+     */
+    public String getPreSignedUrl(ImageType type, String fileId) {
+        return getPreSignedUrl(" ", type.key(fileId));
+    }
+
     private GeneratePresignedUrlRequest getGeneratePreSignedUrlRequest(String fileName) {
 
         GeneratePresignedUrlRequest generatePresignedUrlRequest =
@@ -72,8 +79,12 @@ public class PreSignedUrlService {
         amazonS3Client.putObject(request);
     }
 
+    public void DeleteImage(ImageType type, String fileId) {
+        DeleteImage(type.key(fileId));
+    }
+
     public void DeleteImage(String keyName) {
-        if(keyName.equals("profileimg/profile.jpg")){return;}
+        if(keyName.equals(ImageType.PROFILE_IMAGE.key("profile"))){return;}
         DeleteObjectRequest deleteObjectRequest = new DeleteObjectRequest(bucket, keyName);
         amazonS3Client.deleteObject(deleteObjectRequest);
     }
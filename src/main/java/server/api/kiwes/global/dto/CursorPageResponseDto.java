@@ -0,0 +1,38 @@
+package server.api.kiwes.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import server.api.kiwes.global.pagination.PageCursor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * keyset 페이지네이션 응답. contents 와 함께 다음 페이지 요청에 그대로 넘기면 되는 nextCursor 를 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> contents;
+    private String nextCursor;
+    private Boolean hasNext;
+
+    /**
+     * PAGE_SIZE + 1 건 조회한 결과로 페이지를 구성. 초과분이 있으면 다음 페이지가 존재한다.
+     */
+    public static <T> CursorPageResponseDto<T> of(List<T> fetched, Function<T, PageCursor> cursorOf) {
+        boolean hasNext = fetched.size() > PageCursor.PAGE_SIZE;
+        List<T> contents = hasNext ? fetched.subList(0, PageCursor.PAGE_SIZE) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(contents.get(contents.size() - 1)).encode() : null;
+
+        return new CursorPageResponseDto<>(contents, nextCursor, hasNext);
+    }
+
+    public <R> CursorPageResponseDto<R> map(Function<T, R> mapper) {
+        return new CursorPageResponseDto<>(
+                contents.stream().map(mapper).collect(Collectors.toList()), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,28 @@
+package server.api.kiwes.global.http;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import server.api.kiwes.global.http.constant.OutboundResponseType;
+import server.api.kiwes.response.ApiResponse;
+
+import java.util.List;
+
+@Api(tags = "Outbound - 외부 연동 현황 (관리자)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/outbound")
+@PreAuthorize("hasRole('ADMIN')")
+public class OutboundController {
+    private final OutboundHttpClient outboundHttpClient;
+
+    @ApiOperation(value = "외부 연동 현황", notes = "대상별 서킷 상태, 호출/실패/차단 수, 평균/최대 지연 시간(ms)")
+    @GetMapping("/stats")
+    public ApiResponse<List<OutboundStatsDto>> getStats(){
+        return ApiResponse.of(OutboundResponseType.STATS, outboundHttpClient.getStats());
+    }
+}
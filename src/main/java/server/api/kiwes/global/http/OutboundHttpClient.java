@@ -0,0 +1,105 @@
+package server.api.kiwes.global.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import server.api.kiwes.global.http.constant.OutboundProvider;
+import server.api.kiwes.response.BizException;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static server.api.kiwes.domain.member.constant.MemberResponseType.CONNECT_ERROR;
+import static server.api.kiwes.global.http.constant.OutboundResponseType.PROVIDER_UNAVAILABLE;
+
+/**
+ * 외부 연동 호출 창구.
+ * 공용 커넥션 풀을 쓰는 RestTemplate 위에 대상별 서킷 브레이커와 지연 시간 지표를 얹는다.
+ * 4xx 는 대상이 살아 있다는 뜻이라 서킷 판단에서는 성공으로 보고, 5xx/타임아웃만 실패로 센다.
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient {
+    private final RestTemplate restTemplate;
+    private final Map<OutboundProvider, CircuitBreaker> circuitBreakers = new EnumMap<>(OutboundProvider.class);
+    private final Map<OutboundProvider, Metrics> metrics = new EnumMap<>(OutboundProvider.class);
+
+    public OutboundHttpClient(@Qualifier("outboundRestTemplate") RestTemplate restTemplate,
+                              @Value("${kiwes.outbound.circuit.failure-threshold:5}") int failureThreshold,
+                              @Value("${kiwes.outbound.circuit.open-ms:30000}") long openMillis) {
+        this.restTemplate = restTemplate;
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            circuitBreakers.put(provider, new CircuitBreaker(failureThreshold, openMillis));
+            metrics.put(provider, new Metrics());
+        }
+    }
+
+    public String get(OutboundProvider provider, String url, HttpHeaders headers) {
+        return exchange(provider, url, HttpMethod.GET, new HttpEntity<>(headers));
+    }
+
+    public String post(OutboundProvider provider, String url, HttpHeaders headers, Object body) {
+        return exchange(provider, url, HttpMethod.POST, new HttpEntity<>(body, headers));
+    }
+
+    public List<OutboundStatsDto> getStats() {
+        List<OutboundStatsDto> stats = new ArrayList<>();
+        for (OutboundProvider provider : OutboundProvider.values()) {
+            Metrics metric = metrics.get(provider);
+            long calls = metric.calls.sum();
+            stats.add(new OutboundStatsDto(provider.name(), circuitBreakers.get(provider).getState().name(),
+                    calls, metric.failures.sum(), metric.rejected.sum(),
+                    calls == 0 ? 0 : metric.totalLatency.sum() / calls, metric.maxLatency.get()));
+        }
+        return stats;
+    }
+
+    private String exchange(OutboundProvider provider, String url, HttpMethod method, HttpEntity<?> entity) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(provider);
+        Metrics metric = metrics.get(provider);
+        if (!circuitBreaker.tryAcquire()) {
+            metric.rejected.increment();
+            throw new BizException(PROVIDER_UNAVAILABLE);
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            String body = restTemplate.exchange(url, method, entity, String.class).getBody();
+            circuitBreaker.onSuccess();
+            return body;
+        } catch (HttpClientErrorException e) {
+            circuitBreaker.onSuccess();
+            log.info("{} responded {} - {}", provider, e.getRawStatusCode(), url);
+            throw new BizException(CONNECT_ERROR);
+        } catch (RestClientException e) {
+            circuitBreaker.onFailure();
+            metric.failures.increment();
+            log.warn("{} call failed - {}", provider, e.getMessage());
+            throw new BizException(CONNECT_ERROR);
+        } finally {
+            long latency = System.currentTimeMillis() - start;
+            metric.calls.increment();
+            metric.totalLatency.add(latency);
+            metric.maxLatency.accumulate(latency);
+        }
+    }
+
+    private static class Metrics {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+    }
+}
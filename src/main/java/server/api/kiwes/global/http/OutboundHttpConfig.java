@@ -0,0 +1,57 @@
+package server.api.kiwes.global.http;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 연동(소셜 로그인)용 HTTP 클라이언트.
+ * 커넥션 풀과 keep-alive 로 TLS 연결을 재사용하고, 연결/응답/풀 대기 시간을 모두 제한해서
+ * 외부 서비스가 느려져도 요청 스레드가 무한정 묶이지 않도록 한다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundApacheHttpClient(@Value("${kiwes.outbound.max-connections:100}") int maxConnections,
+                                                        @Value("${kiwes.outbound.max-connections-per-route:20}") int maxConnectionsPerRoute,
+                                                        @Value("${kiwes.outbound.connect-timeout-ms:2000}") int connectTimeout,
+                                                        @Value("${kiwes.outbound.read-timeout-ms:5000}") int readTimeout,
+                                                        @Value("${kiwes.outbound.pool-timeout-ms:1000}") int poolTimeout,
+                                                        @Value("${kiwes.outbound.idle-timeout-ms:30000}") long idleTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .setConnectionRequestTimeout(poolTimeout)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate outboundRestTemplate(@Qualifier("outboundApacheHttpClient") CloseableHttpClient outboundApacheHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(outboundApacheHttpClient));
+    }
+}
@@ -0,0 +1,16 @@
+package server.api.kiwes.global.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OutboundStatsDto {
+    private String provider;
+    private String circuitState;
+    private long calls;
+    private long failures;
+    private long rejected;      // 서킷이 열려 있어 보내지 않은 호출
+    private long averageLatencyMillis;
+    private long maxLatencyMillis;
+}
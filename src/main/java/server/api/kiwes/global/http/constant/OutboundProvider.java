@@ -0,0 +1,11 @@
+package server.api.kiwes.global.http.constant;
+
+/**
+ * 외부 연동 대상. 서킷 브레이커와 지표는 대상별로 따로 관리한다.
+ */
+public enum OutboundProvider {
+    KAKAO,
+    GOOGLE,
+    APPLE,
+    ;
+}
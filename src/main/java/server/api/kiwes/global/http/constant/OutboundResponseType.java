@@ -0,0 +1,19 @@
+package server.api.kiwes.global.http.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import server.api.kiwes.response.BaseResponseType;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboundResponseType implements BaseResponseType {
+    STATS(21501, "외부 연동 현황 응답 성공", HttpStatus.OK),
+
+    PROVIDER_UNAVAILABLE(41501, "외부 서비스 연결이 원활하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    ;
+
+    private final Integer code;
+    private final String message;
+    private final HttpStatus httpStatus;
+}
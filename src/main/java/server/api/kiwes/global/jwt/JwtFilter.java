@@ -1,5 +1,6 @@
 package server.api.kiwes.global.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -32,10 +33,10 @@ public class JwtFilter extends OncePerRequestFilter {
         String jwt = resolveToken(request);
         String requestURI = request.getRequestURI();
         try {
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                boolean isAdditionalInfoProvided = tokenProvider.getAdditionalInfoProvided(jwt);
-                if (isAdditionalInfoProvided) {
-                    Authentication authentication = tokenProvider.getAuthentication(jwt);
+            if (StringUtils.hasText(jwt)) {
+                Claims claims = tokenProvider.verify(jwt);  // 한번만 파싱, 같은 토큰은 캐시에서 바로 반환
+                if (tokenProvider.isAdditionalInfoProvided(claims)) {
+                    Authentication authentication = tokenProvider.getAuthentication(jwt, claims);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
                 } else {
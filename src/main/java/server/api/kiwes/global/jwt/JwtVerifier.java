@@ -0,0 +1,83 @@
+package server.api.kiwes.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.global.util.Hashes;
+import server.api.kiwes.global.util.LruCache;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * JWT 검증기.
+ * 스레드 안전한 JwtParser 를 한번만 만들어 재사용하고, 검증된 클레임은 토큰 해시를 키로 만료 시각까지 LRU 캐시에 둔다.
+ * 같은 access token 으로 반복 요청하면 서명 검증과 JSON 디코딩 없이 캐시된 클레임을 돌려준다.
+ */
+@Component
+public class JwtVerifier {
+    private final Key key;
+    private final JwtParser parser;
+    private final Map<String, CachedClaims> cache;
+
+    public JwtVerifier(@Value("${jwt.secret}") String secret,
+                       @Value("${jwt.claims-cache-size:10000}") int cacheSize) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.cache = LruCache.synchronizedLru(cacheSize);
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    /**
+     * 서명과 만료를 검증한 클레임. 실패 시 jjwt 예외를 그대로 던진다. (ExpiredJwtException 등)
+     */
+    public Claims verify(String token) {
+        String hash = Hashes.sha256(token);
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached = cache.get(hash);
+        if (cached != null) {
+            if (cached.expiresAt > now) return cached.claims;
+            cache.remove(hash);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(hash, new CachedClaims(claims, expiration.getTime()));
+        }
+        return claims;
+    }
+
+    /**
+     * 캐시를 거치지 않는 검증. refresh token 처럼 한번 쓰고 마는 토큰용
+     */
+    public Claims verifyUncached(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 로그아웃 등으로 더 이상 받아주면 안 되는 토큰을 캐시에서 뺀다.
+     */
+    public void evict(String token) {
+        cache.remove(Hashes.sha256(token));
+    }
+
+    private static class CachedClaims {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
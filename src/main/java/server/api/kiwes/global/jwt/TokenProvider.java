@@ -2,7 +2,6 @@ package server.api.kiwes.global.jwt;
 
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
@@ -16,14 +15,13 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
 import server.api.kiwes.domain.member.dto.RefreshTokenRequest;
 import server.api.kiwes.domain.member.dto.RefreshTokenResponse;
-import server.api.kiwes.domain.member.entity.Member;
 import server.api.kiwes.domain.member.repository.MemberRepository;
 
-import io.jsonwebtoken.io.Decoders;
 import server.api.kiwes.domain.member.dto.TokenInfoResponse;
 import server.api.kiwes.domain.member.repository.RefreshTokenRepository;
 import server.api.kiwes.domain.member.service.auth.MemberAuthenticationService;
-import server.api.kiwes.global.jwt.entity.RefreshToken;
+import server.api.kiwes.global.security.principal.AuthenticatedMember;
+import server.api.kiwes.global.security.principal.PrincipalCache;
 import server.api.kiwes.global.security.service.CustomUserDetails;
 import server.api.kiwes.response.BizException;
 
@@ -32,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -46,13 +45,12 @@ public class TokenProvider implements InitializingBean {
     private static final String AUTHORITIES_KEY = "auth";
     private static final String ADDITIONAL_INFO = "isAdditionalInfoProvided";
     private static final String USER_INFO = "userId";
+    private static final String SESSION_ID = "sid";
 
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-
-
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtVerifier jwtVerifier;
+    private final PrincipalCache principalCache;
 
     @Value("${jwt.access-token-validity-in-seconds}")
     private long accessTokenValidityTime;
@@ -65,17 +63,50 @@ public class TokenProvider implements InitializingBean {
 
     @Override
     public void afterPropertiesSet() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.key = jwtVerifier.getKey();
     }
 
 
     /**
-     * 토큰 만드는 함수
+     * 토큰 만드는 함수. 로그인할 때마다 새 세션(기기)으로 리프레시 토큰을 저장한다.
      * @param authentication
      * @return TokenInfoResponse
      */
     public TokenInfoResponse createToken(Authentication authentication, boolean isAdditionalInfoProvided, Long userId) {
+        String sessionId = UUID.randomUUID().toString();
+        TokenInfoResponse tokenInfoResponse = issueToken(authentication, isAdditionalInfoProvided, userId, sessionId);
+        refreshTokenRepository.save(userId, sessionId, tokenInfoResponse.getRefreshToken());
+        return tokenInfoResponse;
+    }
+
+    /**
+     * 리프레시 토큰으로 재발급. 같은 세션을 유지하고, 제출된 토큰이 세션의 현재 토큰일 때만 교체한다.
+     * 이미 교체된 토큰을 다시 내면 탈취로 보고 세션을 폐기한다.
+     * @param authentication
+     * @param refreshClaims verifyRefreshToken 으로 검증한 클레임
+     * @param refreshToken 제출된 리프레시 토큰
+     * @return TokenInfoResponse
+     */
+    public TokenInfoResponse rotateToken(Authentication authentication, Claims refreshClaims, String refreshToken) {
+        Long userId = getUserId(refreshClaims);
+        String sessionId = refreshClaims.get(SESSION_ID, String.class);
+        if (sessionId == null) throw new BizException(REVOKED_TOKEN);
+
+        TokenInfoResponse tokenInfoResponse = issueToken(authentication, true, userId, sessionId);
+        switch (refreshTokenRepository.rotate(userId, sessionId, refreshToken, tokenInfoResponse.getRefreshToken())) {
+            case ROTATED:
+                return tokenInfoResponse;
+            case CONFLICT:
+                throw new BizException(CONCURRENT_REFRESH);
+            case REUSED:
+                log.warn("refresh token reuse detected - member {}, session {}", userId, sessionId);
+                throw new BizException(REUSED_TOKEN);
+            default:
+                throw new BizException(REVOKED_TOKEN);
+        }
+    }
+
+    private TokenInfoResponse issueToken(Authentication authentication, boolean isAdditionalInfoProvided, Long userId, String sessionId) {
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
@@ -87,25 +118,28 @@ public class TokenProvider implements InitializingBean {
                 .setSubject(authentication.getName())
                 .claim(AUTHORITIES_KEY, authorities)
                 .claim(ADDITIONAL_INFO, isAdditionalInfoProvided) // 추가 정보 입력 여부를 클레임에 추가
+                .claim(SESSION_ID, sessionId)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .setExpiration(accessTokenValidity)
                 .compact();
 
         String refreshToken = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setExpiration(refreshTokenValidity)
                 .claim(USER_INFO, userId)
+                .claim(SESSION_ID, sessionId)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        refreshTokenRepository.save(refreshToken, userId);
-
         return TokenInfoResponse.from("Bearer", accessToken, refreshToken, refreshTokenValidityTime);
-
     }
 
     public boolean getAdditionalInfoProvided(String token){
-        Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
-        return claims.get(ADDITIONAL_INFO, Boolean.class);
+        return isAdditionalInfoProvided(jwtVerifier.verify(token));
+    }
+
+    public boolean isAdditionalInfoProvided(Claims claims){
+        return Boolean.TRUE.equals(claims.get(ADDITIONAL_INFO, Boolean.class));
     }
 
     /**
@@ -115,14 +149,23 @@ public class TokenProvider implements InitializingBean {
      * nameAttributeKey 와 authorizedClientRegistrationId 나중에 확인 다시 하기
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(token, parseClaims(token));
+    }
+
+    /**
+     * 이미 검증한 클레임으로 인증 객체 생성 (JwtFilter 에서 토큰을 한번만 파싱하기 위함)
+     * 사용자 정보는 PrincipalCache 에서 꺼내고, 없을 때만 member 를 조회한다.
+     */
+    public Authentication getAuthentication(String token, Claims claims) {
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        Member member = this.memberRepository.findNotDeletedByEmail(claims.getSubject())
-                .orElseThrow(() -> new BizException(NOT_FOUND_EMAIL));
+        AuthenticatedMember member = principalCache.get(claims.getSubject(), email ->
+                this.memberRepository.findNotDeletedByEmail(email)
+                        .map(AuthenticatedMember::from)
+                        .orElseThrow(() -> new BizException(NOT_FOUND_EMAIL)));
 
         return new UsernamePasswordAuthenticationToken(new CustomUserDetails(member), token, authorities);
     }
@@ -133,9 +176,18 @@ public class TokenProvider implements InitializingBean {
      * @return true/ false
      */
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    /**
+     * AccessToken 을 검증하고 클레임을 반환. 실패 사유는 validateToken 과 같은 예외로 던진다.
+     * @param token
+     * @return Claims
+     */
+    public Claims verify(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtVerifier.verify(token);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
             throw new BizException(MAL_FORMED_TOKEN);
@@ -160,9 +212,18 @@ public class TokenProvider implements InitializingBean {
      * @return true/false
      */
     public boolean validateRefreshToken(String token) {
+        verifyRefreshToken(token);
+        return true;
+    }
+
+    /**
+     * RefreshToken 서명과 만료를 검증하고 클레임을 반환 (캐시 사용 안함)
+     * @param token
+     * @return Claims
+     */
+    public Claims verifyRefreshToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtVerifier.verifyUncached(token);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
             throw new BizException(MAL_FORMED_TOKEN);
@@ -178,8 +239,6 @@ public class TokenProvider implements InitializingBean {
         } catch(Exception e){
             log.info(e.getMessage());
             throw new BizException(UNKNOWN_ERROR);
-        } finally {
-            return false;
         }
     }
 
@@ -190,7 +249,7 @@ public class TokenProvider implements InitializingBean {
      */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtVerifier.verify(accessToken);
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -202,13 +261,27 @@ public class TokenProvider implements InitializingBean {
      * @return 남은 시간
      */
     public Long getExpiration(String accessToken) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody().getExpiration();
+        Date expiration = jwtVerifier.verify(accessToken).getExpiration();
         Long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
 
-    public Long getUserId(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get(USER_INFO,Long.class);
+    public Long getUserId(Claims refreshClaims) {
+        return refreshClaims.get(USER_INFO,Long.class);
+    }
+
+    /**
+     * access token 의 세션 id. 세션 도입 전에 발급된 토큰이면 null
+     */
+    public String getSessionId(String accessToken) {
+        return parseClaims(accessToken).get(SESSION_ID, String.class);
+    }
+
+    /**
+     * 로그아웃한 access token 의 클레임을 검증 캐시에서 뺀다.
+     */
+    public void evict(String accessToken) {
+        jwtVerifier.evict(accessToken);
     }
 
 }
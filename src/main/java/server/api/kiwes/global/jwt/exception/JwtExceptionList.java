@@ -15,7 +15,10 @@ public enum JwtExceptionList implements BaseResponseType {
     UNSUPPORTED_TOKEN(40304, "지원되지 않는 토큰입니다.",HttpStatus.UNAUTHORIZED),
     ACCESS_DENIED(40305, "접근이 거부되었습니다.",HttpStatus.UNAUTHORIZED),
     ILLEGAL_TOKEN(40306, "JWT 토큰이 잘못되었습니다.",HttpStatus.UNAUTHORIZED),
-    ADDITIONAL_REQUIRED_TOKEN(40307, "추가 정보를 입력해야 합니다.",HttpStatus.UNAUTHORIZED);
+    ADDITIONAL_REQUIRED_TOKEN(40307, "추가 정보를 입력해야 합니다.",HttpStatus.UNAUTHORIZED),
+    REVOKED_TOKEN(40308, "만료되었거나 로그아웃된 리프레시 토큰입니다.",HttpStatus.UNAUTHORIZED),
+    REUSED_TOKEN(40309, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.",HttpStatus.UNAUTHORIZED),
+    CONCURRENT_REFRESH(40310, "이미 재발급된 토큰입니다. 새로 발급된 토큰을 사용해주세요.",HttpStatus.CONFLICT);
 
     private final Integer code;
     private final String message;
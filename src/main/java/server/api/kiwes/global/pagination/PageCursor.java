@@ -0,0 +1,85 @@
+package server.api.kiwes.global.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import server.api.kiwes.response.BizException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static server.api.kiwes.global.pagination.exception.PaginationExceptionList.INVALID_CURSOR;
+
+/**
+ * keyset(seek) 페이지네이션 커서.
+ * 마지막으로 내려간 row 의 club_id 와 정렬 키를 담아 "다음 페이지"의 시작점을 표현한다.
+ * 클라이언트에는 Base64 로 인코딩된 불투명한 문자열로만 노출된다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+    public static final int PAGE_SIZE = 7;
+
+    private static final String DELIMITER = ":";
+
+    private final Long lastId;      // 마지막 row 의 club_id
+    private final Long sortKey;     // 마지막 row 의 정렬 키 (club_id 정렬이면 lastId 와 같다)
+    private final boolean first;    // 첫 페이지 여부
+
+    public static PageCursor first() {
+        return new PageCursor(null, null, true);
+    }
+
+    public static PageCursor of(Long lastId) {
+        return new PageCursor(lastId, lastId, false);
+    }
+
+    public static PageCursor of(Long lastId, Long sortKey) {
+        return new PageCursor(lastId, sortKey, false);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석. 비어있으면 첫 페이지
+     */
+    public static PageCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER);
+            if (parts.length != 2) {
+                throw new BizException(INVALID_CURSOR);
+            }
+            return of(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new BizException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = lastId + DELIMITER + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 내림차순(club_id desc) 조회에서 사용할 상한값. 첫 페이지는 제한 없음
+     */
+    public Long getUpperBound() {
+        return first ? Long.MAX_VALUE : sortKey;
+    }
+
+    /**
+     * 오름차순 조회에서 사용할 하한값. 첫 페이지는 제한 없음
+     */
+    public Long getLowerBound() {
+        return first ? 0L : sortKey;
+    }
+
+    /**
+     * 다음 페이지 유무 판단을 위해 한 건 더 조회한다.
+     */
+    public int getFetchSize() {
+        return PAGE_SIZE + 1;
+    }
+}
@@ -0,0 +1,17 @@
+package server.api.kiwes.global.pagination.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import server.api.kiwes.response.BaseResponseType;
+
+@Getter
+@AllArgsConstructor
+public enum PaginationExceptionList implements BaseResponseType {
+
+    INVALID_CURSOR(40501, "잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST);
+
+    private final Integer code;
+    private final String message;
+    private final HttpStatus httpStatus;
+}
@@ -0,0 +1,43 @@
+package server.api.kiwes.global.retention;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import server.api.kiwes.global.retention.constant.RetentionResponseType;
+import server.api.kiwes.response.ApiResponse;
+
+import java.util.List;
+
+@Api(tags = "Retention - 보관 정책 (관리자)")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/retention")
+@PreAuthorize("hasRole('ADMIN')")
+public class RetentionController {
+    private final RetentionService retentionService;
+
+    @ApiOperation(value = "보관 정책 실행 현황", notes = "정책별 마지막 실행 시각, 삭제 행 수, 소요 시간, 누적 삭제 행 수")
+    @GetMapping("/stats")
+    public ApiResponse<List<RetentionStatsDto>> getStats(){
+        return ApiResponse.of(RetentionResponseType.STATS, retentionService.getStats());
+    }
+
+    @ApiOperation(value = "보관 정책 실행 일시정지", notes = "진행 중인 삭제는 현재 청크까지만 수행하고 멈춘다.")
+    @PostMapping("/pause")
+    public ApiResponse<Object> pause(){
+        retentionService.pause();
+        return ApiResponse.of(RetentionResponseType.PAUSED);
+    }
+
+    @ApiOperation(value = "보관 정책 실행 재개", notes = "끝까지 돌지 못한 정책이 있으면 바로 이어서 실행한다.")
+    @PostMapping("/resume")
+    public ApiResponse<Object> resume(){
+        retentionService.resume();
+        return ApiResponse.of(RetentionResponseType.RESUMED);
+    }
+}
@@ -0,0 +1,30 @@
+package server.api.kiwes.global.retention;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 테이블별 보관 정책. age 컬럼 값이 (지금 - ttl) 보다 이전인 행을 batchSize 씩 나눠 지운다.
+ * dateOnly 는 age 컬럼이 DATE 인 경우로, 기준 시각 대신 기준 날짜로 비교한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RetentionPolicy {
+    SEARCH_COUNT("search_count", "date", true, Duration.ofDays(3), 1000),               // 검색어 카운트 3일
+    ALARM("alarm", "created_date", false, Duration.ofDays(11), 1000),                   // 알림 11일
+    MEMBER_DELETED("member_deleted", "created_date", false, Duration.ofDays(30), 500),  // 탈퇴 회원 기록 30일
+    HEART_FLUSH_LOG("heart_flush_log", "created_date", false, Duration.ofDays(8), 1000), // 찜 수 반영 기록. 로그 보관(7일)보다 길게
+    ;
+
+    private final String table;
+    private final String ageColumn;
+    private final boolean dateOnly;
+    private final Duration ttl;
+    private final int batchSize;
+
+    public String getDeleteSql() {
+        return "delete from " + table + " where " + ageColumn + " < ? limit " + batchSize;
+    }
+}
@@ -0,0 +1,188 @@
+package server.api.kiwes.global.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보관 기간이 지난 데이터 정리.
+ * 테이블 전체를 읽어 한 건씩 지우는 대신 DELETE ... WHERE age < ? LIMIT n 을 0 건이 될 때까지 반복한다.
+ * 여러 인스턴스가 동시에 돌지 않도록 MySQL GET_LOCK 으로 감싸고, 청크 사이에서 일시정지 요청을 확인한다.
+ * 일시정지 상태는 Redis 에 두어 어느 인스턴스에서 요청해도 실행 중인 인스턴스가 멈춘다.
+ */
+@Slf4j
+@Service
+public class RetentionService {
+    private static final String LOCK_NAME = "kiwes.retention";
+    private static final String PAUSED_KEY = "kiwes:retention:paused";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long chunkPauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<RetentionPolicy, RetentionStatsDto> stats = new ConcurrentHashMap<>();
+    private final ExecutorService resumeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "retention-resume");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RetentionService(JdbcTemplate jdbcTemplate,
+                            StringRedisTemplate stringRedisTemplate,
+                            @Value("${kiwes.retention.chunk-pause-ms:100}") long chunkPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chunkPauseMillis = chunkPauseMillis;
+    }
+
+    /**
+     * 매일 0시 모든 보관 정책 실행
+     */
+    @Scheduled(cron = "${kiwes.retention.cron:0 0 0 * * ?}")
+    public void purgeAll() {
+        if (isPaused()) {
+            log.info("retention is paused, skip");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("retention is already running, skip");
+            return;
+        }
+        try {
+            // GET_LOCK 은 커넥션 단위라 잠금과 삭제를 같은 커넥션에서 수행한다.
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!acquireLock(connection)) {
+                    log.info("retention is running on another instance, skip");
+                    return null;
+                }
+                try {
+                    for (RetentionPolicy policy : RetentionPolicy.values()) {
+                        if (isPaused()) break;
+                        purge(connection, policy);
+                    }
+                } finally {
+                    releaseLock(connection);
+                }
+                return null;
+            });
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 어느 인스턴스에서 실행 중이든 현재 청크까지만 지우고 멈춘다. 재개 전까지 예약 실행도 건너뛴다.
+     */
+    public void pause() {
+        stringRedisTemplate.opsForValue().set(PAUSED_KEY, "1");
+    }
+
+    /**
+     * 일시정지 해제. 멈춘 실행이 다른 인스턴스였을 수도 있으므로 이 인스턴스에서 바로 이어서 실행한다.
+     * (다른 인스턴스가 이미 실행 중이면 GET_LOCK 에서 건너뛴다)
+     */
+    public void resume() {
+        stringRedisTemplate.delete(PAUSED_KEY);
+        resumeExecutor.execute(this::purgeAll);
+    }
+
+    /**
+     * Redis 를 읽지 못하면 정리를 멈추지 않는다. (예약 실행이 계속 밀리지 않도록)
+     */
+    public boolean isPaused() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(PAUSED_KEY));
+        } catch (RuntimeException e) {
+            log.warn("retention pause flag read failed - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        resumeExecutor.shutdownNow();
+    }
+
+    public List<RetentionStatsDto> getStats() {
+        List<RetentionStatsDto> result = new ArrayList<>();
+        for (RetentionPolicy policy : RetentionPolicy.values()) {
+            RetentionStatsDto stat = stats.get(policy);
+            if (stat != null) result.add(stat);
+        }
+        return result;
+    }
+
+    private void purge(Connection connection, RetentionPolicy policy) throws SQLException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        long purged = 0;
+        boolean completed = false;
+
+        try (PreparedStatement statement = connection.prepareStatement(policy.getDeleteSql())) {
+            if (policy.isDateOnly()) {
+                statement.setDate(1, Date.valueOf(LocalDate.now().minusDays(policy.getTtl().toDays())));
+            } else {
+                statement.setTimestamp(1, Timestamp.valueOf(startedAt.minus(policy.getTtl())));
+            }
+            while (!isPaused()) {
+                int deleted = statement.executeUpdate();
+                purged += deleted;
+                if (deleted < policy.getBatchSize()) {
+                    completed = true;
+                    break;
+                }
+                if (!sleepBetweenChunks()) break;
+            }
+        } finally {
+            long duration = System.currentTimeMillis() - start;
+            RetentionStatsDto previous = stats.get(policy);
+            long total = (previous == null ? 0 : previous.getTotalPurged()) + purged;
+            stats.put(policy, new RetentionStatsDto(policy.name(), startedAt, purged, duration, completed, total));
+            log.info("retention {} - purged {} rows in {} ms (completed: {})", policy, purged, duration, completed);
+        }
+    }
+
+    private boolean sleepBetweenChunks() {
+        if (chunkPauseMillis <= 0) return true;
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select get_lock(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select release_lock(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package server.api.kiwes.global.retention;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class RetentionStatsDto {
+    private String policy;
+    private LocalDateTime lastRunAt;
+    private long lastPurged;        // 마지막 실행에서 지운 행 수
+    private long lastDurationMs;    // 마지막 실행 소요 시간
+    private boolean completed;      // 마지막 실행이 끝까지 돌았는지 (일시정지, 오류면 false)
+    private long totalPurged;       // 기동 후 누적 삭제 행 수
+}
@@ -0,0 +1,19 @@
+package server.api.kiwes.global.retention.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import server.api.kiwes.response.BaseResponseType;
+
+@Getter
+@RequiredArgsConstructor
+public enum RetentionResponseType implements BaseResponseType {
+    STATS(21401, "보관 정책 실행 현황 응답 성공", HttpStatus.OK),
+    PAUSED(21402, "보관 정책 실행 일시정지", HttpStatus.OK),
+    RESUMED(21403, "보관 정책 실행 재개", HttpStatus.OK),
+    ;
+
+    private final Integer code;
+    private final String message;
+    private final HttpStatus httpStatus;
+}
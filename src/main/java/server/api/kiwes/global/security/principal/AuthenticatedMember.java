@@ -0,0 +1,28 @@
+package server.api.kiwes.global.security.principal;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import server.api.kiwes.domain.member.constant.Role;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.domain.member.entity.Nationality;
+
+/**
+ * 인증된 사용자 정보.
+ * 영속성 컨텍스트에 묶이지 않는 불변 객체라 요청 사이에 캐시해도 안전하다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthenticatedMember {
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final String nickname;
+    private final String profileImg;
+    private final Nationality nationality;
+
+    public static AuthenticatedMember from(Member member) {
+        return new AuthenticatedMember(member.getId(), member.getEmail(), member.getRole(),
+                member.getNickname(), member.getProfileImg(), member.getNationality());
+    }
+}
@@ -0,0 +1,17 @@
+package server.api.kiwes.global.security.principal;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 로그인한 사용자를 주입한다.
+ * Member 타입이면 요청당 한번만 조회한 엔티티, AuthenticatedMember 타입이면 DB 조회 없이 인증 정보를 준다.
+ * lazy = true 이면 id 만 채운 프록시를 주므로 연관관계 저장처럼 id 만 필요한 곳에서 조회가 없다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+    boolean lazy() default false;
+}
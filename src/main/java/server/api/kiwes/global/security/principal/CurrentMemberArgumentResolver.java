@@ -0,0 +1,39 @@
+package server.api.kiwes.global.security.principal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.security.util.SecurityUtils;
+
+/**
+ * @CurrentMember 파라미터 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
+    private final CurrentMemberProvider currentMemberProvider;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        if (!parameter.hasParameterAnnotation(CurrentMember.class)) return false;
+        Class<?> type = parameter.getParameterType();
+        return Member.class.equals(type) || AuthenticatedMember.class.equals(type);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        if (AuthenticatedMember.class.equals(parameter.getParameterType())) {
+            return SecurityUtils.getLoggedInUser();
+        }
+        CurrentMember annotation = parameter.getParameterAnnotation(CurrentMember.class);
+        return annotation != null && annotation.lazy()
+                ? currentMemberProvider.getReference()
+                : currentMemberProvider.get();
+    }
+}
@@ -0,0 +1,60 @@
+package server.api.kiwes.global.security.principal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import server.api.kiwes.domain.member.constant.MemberResponseType;
+import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.domain.member.repository.MemberRepository;
+import server.api.kiwes.global.security.util.SecurityUtils;
+import server.api.kiwes.response.BizException;
+
+import javax.persistence.EntityManager;
+
+/**
+ * 요청 단위 로그인 사용자 조회.
+ * 한 요청 안에서 여러 서비스가 로그인 사용자를 찾아도 member 는 한번만 조회하고 요청 속성에 보관한다.
+ * 보관한 엔티티가 현재 영속성 컨텍스트에 없으면 (준영속) 다시 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberProvider {
+    private static final String ATTRIBUTE_NAME = CurrentMemberProvider.class.getName() + ".MEMBER";
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+
+    public Long getId() {
+        return SecurityUtils.getLoggedInUser().getId();
+    }
+
+    /**
+     * 로그인한 사용자 엔티티. 요청 밖(스케줄러 등)에서 부르면 매번 조회한다.
+     */
+    public Member get() {
+        Long memberId = getId();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof Member) {
+                Member member = (Member) cached;
+                if (member.getId().equals(memberId) && entityManager.contains(member)) return member;
+            }
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BizException(MemberResponseType.NOT_LOGGED_IN_USER));
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE_NAME, member, RequestAttributes.SCOPE_REQUEST);
+        }
+        return member;
+    }
+
+    /**
+     * 조회 없이 id 만 가진 프록시. 필드에 접근하는 순간 조회되므로 id 와 연관관계 설정에만 쓴다.
+     */
+    public Member getReference() {
+        return memberRepository.getReferenceById(getId());
+    }
+}
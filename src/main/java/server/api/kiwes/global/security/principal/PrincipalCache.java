@@ -0,0 +1,90 @@
+package server.api.kiwes.global.security.principal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import server.api.kiwes.global.util.AfterCommit;
+import server.api.kiwes.global.util.LruCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 이메일별 인증 사용자 캐시.
+ * 매 요청 member 를 조회하지 않도록 AuthenticatedMember 를 TTL 동안 LRU 로 보관한다.
+ * 프로필 변경, 로그아웃, 탈퇴가 커밋되면 지우고, Redis pub/sub 으로 다른 인스턴스에도 알려 같이 지운다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+    private static final String EVICT_CHANNEL = "kiwes:principal:evict";
+
+    private final long ttlMillis;
+    private final Map<String, CachedPrincipal> cache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AtomicLong invalidations = new AtomicLong();   // 읽는 도중 evict 되었으면 읽은 값을 캐시하지 않기 위함
+
+    public PrincipalCache(@Value("${kiwes.security.principal-ttl-seconds:300}") long ttlSeconds,
+                          @Value("${kiwes.security.principal-cache-size:10000}") int cacheSize,
+                          StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer listenerContainer) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = LruCache.synchronizedLru(cacheSize);
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener((message, pattern) ->
+                remove(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시에 없거나 만료되었으면 loader 로 읽어서 넣는다. loader 가 던진 예외는 그대로 전파한다.
+     * 읽는 사이에 evict 가 있었다면 커밋 전 값일 수 있으므로 돌려주기만 하고 캐시하지 않는다.
+     */
+    public AuthenticatedMember get(String email, Function<String, AuthenticatedMember> loader) {
+        long now = System.currentTimeMillis();
+
+        CachedPrincipal cached = cache.get(email);
+        if (cached != null && cached.expiresAt > now) return cached.principal;
+
+        long stamp = invalidations.get();
+        AuthenticatedMember principal = loader.apply(email);
+        if (invalidations.get() == stamp) {
+            cache.put(email, new CachedPrincipal(principal, now + ttlMillis));
+        }
+        return principal;
+    }
+
+    /**
+     * 회원 정보가 바뀐 경우. 트랜잭션 안이면 커밋된 뒤에 지우고 다른 인스턴스에도 알린다.
+     */
+    public void evict(String email) {
+        if (email == null) return;
+        AfterCommit.run(() -> {
+            remove(email);
+            try {
+                stringRedisTemplate.convertAndSend(EVICT_CHANNEL, email);
+            } catch (RuntimeException e) {
+                log.warn("principal evict broadcast failed, other instances expire by ttl - {}", e.getMessage());
+            }
+        });
+    }
+
+    private void remove(String email) {
+        invalidations.incrementAndGet();
+        cache.remove(email);
+    }
+
+    private static class CachedPrincipal {
+        private final AuthenticatedMember principal;
+        private final long expiresAt;
+
+        private CachedPrincipal(AuthenticatedMember principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
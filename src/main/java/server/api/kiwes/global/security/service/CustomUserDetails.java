@@ -6,6 +6,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.security.principal.AuthenticatedMember;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -14,7 +15,11 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final Member member;
+    private final AuthenticatedMember member;
+
+    public CustomUserDetails(Member member) {
+        this(AuthenticatedMember.from(member));
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
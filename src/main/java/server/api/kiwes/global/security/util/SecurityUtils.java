@@ -4,7 +4,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
-import server.api.kiwes.domain.member.entity.Member;
+import server.api.kiwes.global.security.principal.AuthenticatedMember;
 import server.api.kiwes.global.security.service.CustomUserDetails;
 import server.api.kiwes.response.BizException;
 
@@ -17,7 +17,7 @@ import static server.api.kiwes.global.security.exception.SecurityExceptionList.R
 @Transactional
 public class SecurityUtils {
 
-    public static Member getLoggedInUser() {
+    public static AuthenticatedMember getLoggedInUser() {
         try {
             return
                     ((CustomUserDetails) Objects.requireNonNull(SecurityContextHolder.getContext().getAuthentication()).getPrincipal()).getMember();
@@ -0,0 +1,34 @@
+package server.api.kiwes.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 캐시 키, 토큰 저장용 SHA-256 해시
+ */
+public final class Hashes {
+
+    private Hashes() {
+    }
+
+    public static String sha256(String text) {
+        return Base64.getEncoder().encodeToString(digest(text));
+    }
+
+    /**
+     * Redis 키처럼 '/', '+', '=' 를 피해야 하는 곳에 쓰는 URL-safe 인코딩
+     */
+    public static String sha256UrlSafe(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest(text));
+    }
+
+    private static byte[] digest(String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
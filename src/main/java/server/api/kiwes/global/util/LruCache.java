@@ -0,0 +1,23 @@
+package server.api.kiwes.global.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기가 정해진 스레드 안전한 LRU 맵. 가장 오래 조회되지 않은 항목부터 밀려난다.
+ */
+public final class LruCache {
+
+    private LruCache() {
+    }
+
+    public static <K, V> Map<K, V> synchronizedLru(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+}